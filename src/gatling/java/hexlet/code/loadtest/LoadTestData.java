@@ -0,0 +1,86 @@
+package hexlet.code.loadtest;
+
+import com.fasterxml.jackson.annotation.JsonInclude;
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import hexlet.code.dto.LabelDTO.LabelCreateDTO;
+import hexlet.code.dto.TaskDTO.TaskCreateDTO;
+import hexlet.code.dto.TaskDTO.TaskUpdateDTO;
+import hexlet.code.dto.TaskStatusDTO.TaskStatusCreateDTO;
+import net.datafaker.Faker;
+import org.instancio.Instancio;
+import org.instancio.Model;
+import org.instancio.Select;
+import org.openapitools.jackson.nullable.JsonNullable;
+import org.openapitools.jackson.nullable.JsonNullableModule;
+
+import java.util.Iterator;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+import java.util.stream.Stream;
+
+public final class LoadTestData {
+
+    private static final List<String> STATUSES = List.of(
+            "draft", "to_review", "to_be_fixed", "to_publish", "published");
+
+    private static final Faker FAKER = new Faker();
+    private static final ObjectMapper OM = new ObjectMapper()
+            .registerModule(new JsonNullableModule())
+            .setSerializationInclusion(JsonInclude.Include.NON_NULL);
+
+    private static final Model<TaskCreateDTO> TASK_CREATE_MODEL = Instancio.of(TaskCreateDTO.class)
+            .ignore(Select.field(TaskCreateDTO::getAssigneeId))
+            .ignore(Select.field(TaskCreateDTO::getTaskLabelIds))
+            .supply(Select.field(TaskCreateDTO::getIndex), () -> FAKER.number().randomNumber())
+            .supply(Select.field(TaskCreateDTO::getTitle), () -> FAKER.lorem().word() + "aa")
+            .supply(Select.field(TaskCreateDTO::getContent), () -> FAKER.lorem().sentence())
+            .supply(Select.field(TaskCreateDTO::getStatus), () -> randomStatus())
+            .toModel();
+
+    private static final Model<LabelCreateDTO> LABEL_CREATE_MODEL = Instancio.of(LabelCreateDTO.class)
+            .supply(Select.field(LabelCreateDTO::getName), () -> "label-" + UUID.randomUUID())
+            .toModel();
+
+    private static final Model<TaskStatusCreateDTO> TASK_STATUS_CREATE_MODEL = Instancio.of(TaskStatusCreateDTO.class)
+            .supply(Select.field(TaskStatusCreateDTO::getName), () -> "Status " + UUID.randomUUID())
+            .supply(Select.field(TaskStatusCreateDTO::getSlug), () -> "status_" + UUID.randomUUID())
+            .toModel();
+
+    private LoadTestData() {
+    }
+
+    public static Iterator<Map<String, Object>> feeder() {
+        return Stream.generate(LoadTestData::record).iterator();
+    }
+
+    private static Map<String, Object> record() {
+        var update = new TaskUpdateDTO();
+        update.setTitle(JsonNullable.of(FAKER.lorem().word() + "aa"));
+        update.setContent(JsonNullable.of(FAKER.lorem().sentence()));
+        update.setStatus(JsonNullable.of(randomStatus()));
+        update.setTaskLabelIds(JsonNullable.of(List.of()));
+
+        return Map.of(
+                "taskCreate", toJson(Instancio.create(TASK_CREATE_MODEL)),
+                "taskUpdate", toJson(update),
+                "labelCreate", toJson(Instancio.create(LABEL_CREATE_MODEL)),
+                "taskStatusCreate", toJson(Instancio.create(TASK_STATUS_CREATE_MODEL)),
+                "status", randomStatus(),
+                "titleCont", FAKER.lorem().characters(2).toLowerCase());
+    }
+
+    private static String randomStatus() {
+        return STATUSES.get(FAKER.random().nextInt(STATUSES.size()));
+    }
+
+    private static String toJson(Object value) {
+        try {
+            return OM.writeValueAsString(value);
+        } catch (JsonProcessingException e) {
+            throw new IllegalStateException(e);
+        }
+    }
+
+}
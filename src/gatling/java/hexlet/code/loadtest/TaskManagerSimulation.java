@@ -0,0 +1,122 @@
+package hexlet.code.loadtest;
+
+import io.gatling.javaapi.core.ChainBuilder;
+import io.gatling.javaapi.core.ScenarioBuilder;
+import io.gatling.javaapi.core.Simulation;
+import io.gatling.javaapi.http.HttpProtocolBuilder;
+
+import java.time.Duration;
+
+import static io.gatling.javaapi.core.CoreDsl.StringBody;
+import static io.gatling.javaapi.core.CoreDsl.bodyString;
+import static io.gatling.javaapi.core.CoreDsl.constantUsersPerSec;
+import static io.gatling.javaapi.core.CoreDsl.exec;
+import static io.gatling.javaapi.core.CoreDsl.feed;
+import static io.gatling.javaapi.core.CoreDsl.global;
+import static io.gatling.javaapi.core.CoreDsl.jsonPath;
+import static io.gatling.javaapi.core.CoreDsl.scenario;
+import static io.gatling.javaapi.http.HttpDsl.header;
+import static io.gatling.javaapi.http.HttpDsl.http;
+import static io.gatling.javaapi.http.HttpDsl.status;
+
+public class TaskManagerSimulation extends Simulation {
+
+    private static final String BASE_URL = System.getProperty("baseUrl", "http://localhost:8080");
+    private static final String USERNAME = System.getProperty("username", "hexlet@example.com");
+    private static final String PASSWORD = System.getProperty("password", "qwerty");
+    private static final double USERS_PER_SEC = Double.parseDouble(System.getProperty("usersPerSec", "5"));
+    private static final Duration DURATION = Duration.ofSeconds(Long.getLong("durationSeconds", 60));
+
+    private final HttpProtocolBuilder httpProtocol = http
+            .baseUrl(BASE_URL)
+            .acceptHeader("application/json")
+            .contentTypeHeader("application/json");
+
+    private final ChainBuilder login = exec(http("login")
+            .post("/api/login")
+            .body(StringBody("{\"username\":\"" + USERNAME + "\",\"password\":\"" + PASSWORD + "\"}"))
+            .check(status().is(200))
+            .check(bodyString().saveAs("token")));
+
+    private final ScenarioBuilder loginScenario = scenario("Login and read profile")
+            .exec(login)
+            .exec(http("list users")
+                    .get("/api/users")
+                    .header("Authorization", "Bearer #{token}")
+                    .check(status().is(200)));
+
+    private final ScenarioBuilder taskCrudScenario = scenario("Task CRUD")
+            .exec(login)
+            .during(DURATION).on(feed(LoadTestData.feeder())
+                    .exec(http("create task")
+                            .post("/api/tasks")
+                            .header("Authorization", "Bearer #{token}")
+                            .body(StringBody("#{taskCreate}"))
+                            .check(status().is(201))
+                            .check(jsonPath("$.id").saveAs("taskId")))
+                    .exec(http("show task")
+                            .get("/api/tasks/#{taskId}")
+                            .header("Authorization", "Bearer #{token}")
+                            .check(status().is(200)))
+                    .exec(http("update task")
+                            .put("/api/tasks/#{taskId}")
+                            .header("Authorization", "Bearer #{token}")
+                            .body(StringBody("#{taskUpdate}"))
+                            .check(status().is(200)))
+                    .exec(http("delete task")
+                            .delete("/api/tasks/#{taskId}")
+                            .header("Authorization", "Bearer #{token}")
+                            .check(status().is(204))));
+
+    private final ScenarioBuilder listingScenario = scenario("Filtered task listing")
+            .exec(login)
+            .during(DURATION).on(feed(LoadTestData.feeder())
+                    .exec(http("list tasks")
+                            .get("/api/tasks?_start=0&_end=25")
+                            .header("Authorization", "Bearer #{token}")
+                            .check(status().is(200))
+                            .check(header("X-Total-Count").exists()))
+                    .exec(http("list tasks by status")
+                            .get("/api/tasks?_start=0&_end=25&status=#{status}")
+                            .header("Authorization", "Bearer #{token}")
+                            .check(status().is(200)))
+                    .exec(http("list tasks by title")
+                            .get("/api/tasks?_start=0&_end=25&titleCont=#{titleCont}")
+                            .header("Authorization", "Bearer #{token}")
+                            .check(status().is(200))));
+
+    private final ScenarioBuilder churnScenario = scenario("Label and status churn")
+            .exec(login)
+            .during(DURATION).on(feed(LoadTestData.feeder())
+                    .exec(http("create label")
+                            .post("/api/labels")
+                            .header("Authorization", "Bearer #{token}")
+                            .body(StringBody("#{labelCreate}"))
+                            .check(status().is(201))
+                            .check(jsonPath("$.id").saveAs("labelId")))
+                    .exec(http("create task status")
+                            .post("/api/task_statuses")
+                            .header("Authorization", "Bearer #{token}")
+                            .body(StringBody("#{taskStatusCreate}"))
+                            .check(status().is(201))
+                            .check(jsonPath("$.id").saveAs("taskStatusId")))
+                    .exec(http("delete label")
+                            .delete("/api/labels/#{labelId}")
+                            .header("Authorization", "Bearer #{token}")
+                            .check(status().is(204)))
+                    .exec(http("delete task status")
+                            .delete("/api/task_statuses/#{taskStatusId}")
+                            .header("Authorization", "Bearer #{token}")
+                            .check(status().is(204))));
+
+    {
+        setUp(
+                loginScenario.injectOpen(constantUsersPerSec(USERS_PER_SEC).during(DURATION)),
+                taskCrudScenario.injectOpen(constantUsersPerSec(USERS_PER_SEC / 5).during(DURATION.dividedBy(6))),
+                listingScenario.injectOpen(constantUsersPerSec(USERS_PER_SEC / 5).during(DURATION.dividedBy(6))),
+                churnScenario.injectOpen(constantUsersPerSec(USERS_PER_SEC / 10).during(DURATION.dividedBy(6)))
+        ).protocols(httpProtocol)
+                .assertions(global().failedRequests().percent().lt(1.0));
+    }
+
+}
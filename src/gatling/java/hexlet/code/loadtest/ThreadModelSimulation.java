@@ -0,0 +1,67 @@
+package hexlet.code.loadtest;
+
+import io.gatling.javaapi.core.ScenarioBuilder;
+import io.gatling.javaapi.core.Simulation;
+import io.gatling.javaapi.http.HttpProtocolBuilder;
+
+import java.time.Duration;
+
+import static io.gatling.javaapi.core.CoreDsl.StringBody;
+import static io.gatling.javaapi.core.CoreDsl.bodyString;
+import static io.gatling.javaapi.core.CoreDsl.feed;
+import static io.gatling.javaapi.core.CoreDsl.global;
+import static io.gatling.javaapi.core.CoreDsl.jsonPath;
+import static io.gatling.javaapi.core.CoreDsl.rampUsers;
+import static io.gatling.javaapi.core.CoreDsl.scenario;
+import static io.gatling.javaapi.http.HttpDsl.http;
+import static io.gatling.javaapi.http.HttpDsl.status;
+
+public class ThreadModelSimulation extends Simulation {
+
+    private static final String BASE_URL = System.getProperty("baseUrl", "http://localhost:8080");
+    private static final String USERNAME = System.getProperty("username", "hexlet@example.com");
+    private static final String PASSWORD = System.getProperty("password", "qwerty");
+    private static final int CONCURRENCY = Integer.getInteger("concurrency", 50);
+    private static final Duration RAMP = Duration.ofSeconds(Long.getLong("rampSeconds", 10));
+    private static final Duration DURATION = Duration.ofSeconds(Long.getLong("durationSeconds", 60));
+
+    private final HttpProtocolBuilder httpProtocol = http
+            .baseUrl(BASE_URL)
+            .acceptHeader("application/json")
+            .contentTypeHeader("application/json")
+            .disableCaching();
+
+    private final ScenarioBuilder mixedScenario = scenario("Concurrent task reads and writes")
+            .exec(http("login")
+                    .post("/api/login")
+                    .body(StringBody("{\"username\":\"" + USERNAME + "\",\"password\":\"" + PASSWORD + "\"}"))
+                    .check(status().is(200))
+                    .check(bodyString().saveAs("token")))
+            .exitHereIfFailed()
+            .during(DURATION).on(feed(LoadTestData.feeder())
+                    .exec(http("list tasks")
+                            .get("/api/tasks?_start=0&_end=25")
+                            .header("Authorization", "Bearer #{token}")
+                            .check(status().is(200)))
+                    .exec(http("create task")
+                            .post("/api/tasks")
+                            .header("Authorization", "Bearer #{token}")
+                            .body(StringBody("#{taskCreate}"))
+                            .check(status().is(201))
+                            .check(jsonPath("$.id").saveAs("taskId")))
+                    .exec(http("show task")
+                            .get("/api/tasks/#{taskId}")
+                            .header("Authorization", "Bearer #{token}")
+                            .check(status().is(200)))
+                    .exec(http("delete task")
+                            .delete("/api/tasks/#{taskId}")
+                            .header("Authorization", "Bearer #{token}")
+                            .check(status().is(204))));
+
+    {
+        setUp(mixedScenario.injectOpen(rampUsers(CONCURRENCY).during(RAMP)))
+                .protocols(httpProtocol)
+                .assertions(global().failedRequests().percent().lt(1.0));
+    }
+
+}
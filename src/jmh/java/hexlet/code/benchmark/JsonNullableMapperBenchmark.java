@@ -0,0 +1,42 @@
+package hexlet.code.benchmark;
+
+import hexlet.code.mapper.JsonNullableMapper;
+import hexlet.code.mapper.JsonNullableMapperImpl;
+import org.openapitools.jackson.nullable.JsonNullable;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+import java.util.concurrent.TimeUnit;
+
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+public class JsonNullableMapperBenchmark {
+
+    private JsonNullableMapper mapper;
+    private String value;
+    private JsonNullable<String> nullable;
+
+    @Setup
+    public void setUp() {
+        mapper = new JsonNullableMapperImpl();
+        value = "Task title";
+        nullable = JsonNullable.of(value);
+    }
+
+    @Benchmark
+    public JsonNullable<String> wrap() {
+        return mapper.wrap(value);
+    }
+
+    @Benchmark
+    public String unwrap() {
+        return mapper.unwrap(nullable);
+    }
+
+}
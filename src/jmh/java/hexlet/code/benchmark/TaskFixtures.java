@@ -0,0 +1,73 @@
+package hexlet.code.benchmark;
+
+import hexlet.code.dto.TaskDTO.TaskDTO;
+import hexlet.code.dto.TaskDTO.TaskUpdateDTO;
+import hexlet.code.model.Label;
+import hexlet.code.model.Task;
+import hexlet.code.model.TaskStatus;
+import hexlet.code.model.User;
+import org.openapitools.jackson.nullable.JsonNullable;
+
+import java.time.LocalDate;
+import java.util.List;
+import java.util.stream.Collectors;
+import java.util.stream.LongStream;
+
+final class TaskFixtures {
+
+    private TaskFixtures() {
+    }
+
+    static Task task(long id) {
+        var taskStatus = new TaskStatus();
+        taskStatus.setId(1L);
+        taskStatus.setName("Draft");
+        taskStatus.setSlug("draft");
+
+        var assignee = new User();
+        assignee.setId(1L);
+        assignee.setEmail("hexlet@example.com");
+
+        var task = new Task();
+        task.setId(id);
+        task.setName("Task " + id);
+        task.setDescription("Description of task " + id);
+        task.setIndex(id);
+        task.setCreatedAt(LocalDate.of(2024, 1, 1));
+        task.setTaskStatus(taskStatus);
+        task.setAssignee(assignee);
+        task.setLabels(LongStream.rangeClosed(1, 3)
+                .mapToObj(TaskFixtures::label)
+                .collect(Collectors.toSet()));
+        return task;
+    }
+
+    static TaskDTO taskDTO(long id) {
+        var dto = new TaskDTO();
+        dto.setId(id);
+        dto.setIndex(id);
+        dto.setCreatedAt(LocalDate.of(2024, 1, 1));
+        dto.setAssigneeId(1L);
+        dto.setTitle("Task " + id);
+        dto.setContent("Description of task " + id);
+        dto.setStatus("draft");
+        dto.setTaskLabelIds(List.of(1L, 2L, 3L));
+        return dto;
+    }
+
+    static TaskUpdateDTO taskUpdateDTO() {
+        var dto = new TaskUpdateDTO();
+        dto.setTitle(JsonNullable.of("Updated task"));
+        dto.setContent(JsonNullable.of("Updated description"));
+        dto.setIndex(JsonNullable.of(42L));
+        return dto;
+    }
+
+    private static Label label(long id) {
+        var label = new Label();
+        label.setId(id);
+        label.setName("label_" + id);
+        return label;
+    }
+
+}
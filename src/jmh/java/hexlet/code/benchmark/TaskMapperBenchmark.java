@@ -0,0 +1,51 @@
+package hexlet.code.benchmark;
+
+import hexlet.code.dto.TaskDTO.TaskDTO;
+import hexlet.code.dto.TaskDTO.TaskUpdateDTO;
+import hexlet.code.mapper.JsonNullableMapperImpl;
+import hexlet.code.mapper.TaskMapper;
+import hexlet.code.mapper.TaskMapperImpl;
+import hexlet.code.model.Task;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.springframework.util.ReflectionUtils;
+
+import java.util.concurrent.TimeUnit;
+
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+public class TaskMapperBenchmark {
+
+    private TaskMapper taskMapper;
+    private Task task;
+    private TaskUpdateDTO updateDTO;
+
+    @Setup
+    public void setUp() {
+        taskMapper = new TaskMapperImpl();
+        var field = ReflectionUtils.findField(TaskMapperImpl.class, "jsonNullableMapper");
+        ReflectionUtils.makeAccessible(field);
+        ReflectionUtils.setField(field, taskMapper, new JsonNullableMapperImpl());
+
+        task = TaskFixtures.task(1L);
+        updateDTO = TaskFixtures.taskUpdateDTO();
+    }
+
+    @Benchmark
+    public TaskDTO map() {
+        return taskMapper.map(task);
+    }
+
+    @Benchmark
+    public Task update() {
+        taskMapper.update(updateDTO, task);
+        return task;
+    }
+
+}
@@ -0,0 +1,89 @@
+package hexlet.code.benchmark;
+
+import hexlet.code.AppApplication;
+import hexlet.code.dto.TaskDTO.TaskDTO;
+import hexlet.code.dto.TaskDTO.TaskParamsDTO;
+import hexlet.code.model.Task;
+import hexlet.code.repository.TaskRepository;
+import hexlet.code.service.TaskService;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.springframework.boot.builder.SpringApplicationBuilder;
+import org.springframework.context.ConfigurableApplicationContext;
+import org.springframework.data.domain.Page;
+
+import java.util.concurrent.TimeUnit;
+import java.util.stream.LongStream;
+
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+public class TaskSearchBenchmark {
+
+    private static final String TERM = "deploy";
+    private static final int MATCH_EVERY = 100;
+    private static final int PAGE_SIZE = 20;
+
+    @Param({"1000", "10000"})
+    private int taskCount;
+
+    private ConfigurableApplicationContext context;
+    private TaskService taskService;
+    private TaskParamsDTO likeParams;
+    private TaskParamsDTO searchParams;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        context = new SpringApplicationBuilder(AppApplication.class)
+                .properties("server.port=0",
+                        "spring.datasource.url=jdbc:h2:mem:search-benchmark-" + taskCount,
+                        "outbox.relay-enabled=false",
+                        "sentry.dsn=",
+                        "logging.level.root=WARN")
+                .run();
+        context.getBean(TaskRepository.class).saveAll(LongStream.range(0, taskCount)
+                .mapToObj(TaskSearchBenchmark::task)
+                .toList());
+        taskService = context.getBean(TaskService.class);
+
+        likeParams = new TaskParamsDTO();
+        likeParams.setTitleCont(TERM);
+        likeParams.setEnd(PAGE_SIZE);
+
+        searchParams = new TaskParamsDTO();
+        searchParams.setQ(TERM);
+        searchParams.setEnd(PAGE_SIZE);
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() {
+        context.close();
+    }
+
+    @Benchmark
+    public Page<TaskDTO> titleContains() {
+        return taskService.getAllTasks(likeParams);
+    }
+
+    @Benchmark
+    public Page<TaskDTO> fullTextSearch() {
+        return taskService.getAllTasks(searchParams);
+    }
+
+    private static Task task(long i) {
+        var task = new Task();
+        task.setName(i % MATCH_EVERY == 0 ? "Deploy release " + i : "Review change " + i);
+        task.setDescription("Description of task " + i);
+        task.setIndex(i);
+        return task;
+    }
+
+}
@@ -0,0 +1,127 @@
+package hexlet.code.benchmark;
+
+import hexlet.code.AppApplication;
+import hexlet.code.dto.TaskDTO.TaskParamsDTO;
+import hexlet.code.model.Label;
+import hexlet.code.model.Task;
+import hexlet.code.model.TaskStatus;
+import hexlet.code.model.User;
+import hexlet.code.repository.LabelRepository;
+import hexlet.code.repository.TaskRepository;
+import hexlet.code.repository.TaskStatusRepository;
+import hexlet.code.repository.UserRepository;
+import hexlet.code.specification.TaskSpecification;
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.EntityManagerFactory;
+import jakarta.persistence.criteria.Predicate;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.springframework.boot.builder.SpringApplicationBuilder;
+import org.springframework.context.ConfigurableApplicationContext;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.jpa.domain.Specification;
+
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.LongStream;
+
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+public class TaskSpecificationBenchmark {
+
+    private static final int TASK_COUNT = 10000;
+    private static final int PAGE_SIZE = 20;
+
+    private ConfigurableApplicationContext context;
+    private EntityManager entityManager;
+    private TaskRepository taskRepository;
+    private Specification<Task> emptySpec;
+    private Specification<Task> fullSpec;
+    private Pageable page;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        context = new SpringApplicationBuilder(AppApplication.class)
+                .properties("server.port=0",
+                        "spring.datasource.url=jdbc:h2:mem:specification-benchmark",
+                        "outbox.relay-enabled=false",
+                        "sentry.dsn=",
+                        "logging.level.root=WARN")
+                .run();
+        var assignee = context.getBean(UserRepository.class).findByEmail("hexlet@example.com").orElseThrow();
+        var statuses = context.getBean(TaskStatusRepository.class).findAll();
+        var label = context.getBean(LabelRepository.class).findByName("feature").orElseThrow();
+        taskRepository = context.getBean(TaskRepository.class);
+        taskRepository.saveAll(LongStream.range(0, TASK_COUNT)
+                .mapToObj(i -> task(i, assignee, statuses, label))
+                .toList());
+
+        entityManager = context.getBean(EntityManagerFactory.class).createEntityManager();
+
+        var specBuilder = context.getBean(TaskSpecification.class);
+        var fullParams = new TaskParamsDTO();
+        fullParams.setTitleCont("task 1");
+        fullParams.setAssigneeId(assignee.getId());
+        fullParams.setStatus(statuses.get(0).getSlug());
+        fullParams.setLabelId(label.getId());
+        emptySpec = specBuilder.build(new TaskParamsDTO());
+        fullSpec = specBuilder.build(fullParams);
+        page = PageRequest.of(0, PAGE_SIZE);
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() {
+        entityManager.close();
+        context.close();
+    }
+
+    @Benchmark
+    public Predicate toPredicateEmpty() {
+        return toPredicate(emptySpec);
+    }
+
+    @Benchmark
+    public Predicate toPredicateFull() {
+        return toPredicate(fullSpec);
+    }
+
+    @Benchmark
+    public Page<Task> findAllEmpty() {
+        return taskRepository.findAll(emptySpec, page);
+    }
+
+    @Benchmark
+    public Page<Task> findAllFull() {
+        return taskRepository.findAll(fullSpec, page);
+    }
+
+    private Predicate toPredicate(Specification<Task> spec) {
+        var cb = entityManager.getCriteriaBuilder();
+        var query = cb.createQuery(Task.class);
+        return spec.toPredicate(query.from(Task.class), query, cb);
+    }
+
+    private static Task task(long i, User assignee, List<TaskStatus> statuses, Label label) {
+        var task = new Task();
+        task.setName("task " + i);
+        task.setDescription("Description of task " + i);
+        task.setIndex(i);
+        task.setAssignee(i % 2 == 0 ? assignee : null);
+        task.setTaskStatus(statuses.get((int) (i % statuses.size())));
+        if (i % 3 == 0) {
+            task.getLabels().add(label);
+        }
+        return task;
+    }
+
+}
@@ -14,6 +14,7 @@ import org.springframework.boot.ApplicationArguments;
 import org.springframework.boot.ApplicationRunner;
 import org.springframework.security.crypto.password.PasswordEncoder;
 import org.springframework.stereotype.Component;
+import org.springframework.transaction.annotation.Transactional;
 
 import java.util.List;
 
@@ -30,6 +31,7 @@ public class DataInitializer implements ApplicationRunner {
     private PasswordEncoder passwordEncoder;
 
     @Override
+    @Transactional
     public void run(ApplicationArguments args) throws Exception {
         addAdminUser();
         addDefaultSlugs();
@@ -50,7 +52,7 @@ public class DataInitializer implements ApplicationRunner {
 
     private void addDefaultSlugs() {
         List<String> defaultSlugs = List.of("draft", "to_review", "to_be_fixed", "to_publish", "published");
-        defaultSlugs.forEach(slug -> {
+        var statuses = defaultSlugs.stream().map(slug -> {
             var statusData = new TaskStatusCreateDTO();
             String[] arr = slug.split("_");
             String first = arr[0].substring(0, 1).toUpperCase() + arr[0].substring(1);
@@ -64,19 +66,19 @@ public class DataInitializer implements ApplicationRunner {
 
             statusData.setName(name.toString());
             statusData.setSlug(slug);
-            var status = taskStatusMapper.map(statusData);
-            taskStatusRepository.save(status);
-        });
+            return taskStatusMapper.map(statusData);
+        }).toList();
+        taskStatusRepository.saveAll(statuses);
     }
 
     private void addDefaultLabels() {
         List<String> defaultLabels = List.of("feature", "bug");
-        defaultLabels.forEach(name -> {
+        var labels = defaultLabels.stream().map(name -> {
             var labelData = new LabelCreateDTO();
             labelData.setName(name);
-            var label = labelMapper.map(labelData);
-            labelRepository.save(label);
-        });
+            return labelMapper.map(labelData);
+        }).toList();
+        labelRepository.saveAll(labels);
     }
 
 }
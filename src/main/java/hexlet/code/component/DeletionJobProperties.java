@@ -0,0 +1,21 @@
+package hexlet.code.component;
+
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+
+@Component
+@ConfigurationProperties(prefix = "deletion-jobs")
+@Setter
+@Getter
+public class DeletionJobProperties {
+
+    private int poolSize = 2;
+    private int queueCapacity = 100;
+    private int chunkSize = 500;
+    private Duration retention = Duration.ofHours(1);
+
+}
@@ -0,0 +1,42 @@
+package hexlet.code.component;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import hexlet.code.model.OutboxEvent;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.stereotype.Component;
+
+import java.io.UncheckedIOException;
+import java.util.List;
+
+@Component
+public class LoggingOutboxSink implements OutboxSink {
+
+    private static final Logger LOGGER = LoggerFactory.getLogger("outbox");
+
+    private final ObjectMapper om;
+
+    public LoggingOutboxSink(ObjectMapper om) {
+        this.om = om;
+    }
+
+    @Override
+    public void publish(List<OutboxEvent> events) {
+        for (var event : events) {
+            var line = om.createObjectNode()
+                    .put("position", event.getPosition())
+                    .put("aggregateType", event.getAggregateType())
+                    .put("aggregateId", event.getAggregateId())
+                    .put("eventType", event.getEventType())
+                    .put("createdAt", event.getCreatedAt().toString());
+            try {
+                line.set("payload", event.getPayload() == null ? null : om.readTree(event.getPayload()));
+                LOGGER.info(om.writeValueAsString(line));
+            } catch (JsonProcessingException e) {
+                throw new UncheckedIOException(e);
+            }
+        }
+    }
+
+}
@@ -0,0 +1,22 @@
+package hexlet.code.component;
+
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+
+@Component
+@ConfigurationProperties(prefix = "outbox")
+@Setter
+@Getter
+public class OutboxProperties {
+
+    private boolean relayEnabled = true;
+    private int batchSize = 100;
+    private Duration pollInterval = Duration.ofSeconds(1);
+    private Duration retention = Duration.ofDays(7);
+    private Duration purgeInterval = Duration.ofMinutes(10);
+
+}
@@ -0,0 +1,26 @@
+package hexlet.code.component;
+
+import hexlet.code.service.OutboxService;
+import lombok.AllArgsConstructor;
+import org.springframework.stereotype.Component;
+
+@Component
+@AllArgsConstructor
+public class OutboxRelay {
+
+    private OutboxService outboxService;
+    private OutboxProperties properties;
+
+    public void relay() {
+        int published;
+        do {
+            outboxService.assignPositions(properties.getBatchSize());
+            published = outboxService.publishBatch(properties.getBatchSize());
+        } while (published == properties.getBatchSize());
+    }
+
+    public void purge() {
+        outboxService.purgePublished(properties.getRetention());
+    }
+
+}
@@ -0,0 +1,11 @@
+package hexlet.code.component;
+
+import hexlet.code.model.OutboxEvent;
+
+import java.util.List;
+
+public interface OutboxSink {
+
+    void publish(List<OutboxEvent> events);
+
+}
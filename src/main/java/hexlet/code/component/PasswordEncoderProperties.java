@@ -0,0 +1,34 @@
+package hexlet.code.component;
+
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.stereotype.Component;
+
+@Component
+@ConfigurationProperties(prefix = "password-encoder")
+@Setter
+@Getter
+public class PasswordEncoderProperties {
+
+    private String id = "bcrypt";
+    private Bcrypt bcrypt = new Bcrypt();
+    private Argon2 argon2 = new Argon2();
+
+    @Setter
+    @Getter
+    public static class Bcrypt {
+        private int strength = 10;
+    }
+
+    @Setter
+    @Getter
+    public static class Argon2 {
+        private int saltLength = 16;
+        private int hashLength = 32;
+        private int parallelism = 1;
+        private int memory = 16384;
+        private int iterations = 2;
+    }
+
+}
@@ -0,0 +1,55 @@
+package hexlet.code.component;
+
+import hexlet.code.component.SearchIndexProperties.Reindex;
+import hexlet.code.model.Task;
+import hexlet.code.repository.TaskRepository;
+import jakarta.persistence.EntityManagerFactory;
+import lombok.AllArgsConstructor;
+import org.hibernate.search.mapper.orm.Search;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.boot.ApplicationArguments;
+import org.springframework.boot.ApplicationRunner;
+import org.springframework.stereotype.Component;
+
+@Component
+@AllArgsConstructor
+public class SearchIndexInitializer implements ApplicationRunner {
+
+    private static final Logger LOGGER = LoggerFactory.getLogger(SearchIndexInitializer.class);
+
+    private EntityManagerFactory entityManagerFactory;
+    private TaskRepository taskRepository;
+    private SearchIndexProperties properties;
+
+    @Override
+    public void run(ApplicationArguments args) throws Exception {
+        var reindex = properties.getReindex();
+        if (reindex == Reindex.NEVER || reindex == Reindex.AUTO && isUpToDate()) {
+            return;
+        }
+        LOGGER.info("Rebuilding the task search index");
+        Search.mapping(entityManagerFactory)
+                .scope(Task.class)
+                .massIndexer()
+                .start()
+                .whenComplete((result, e) -> {
+                    if (e != null) {
+                        LOGGER.error("Rebuilding the task search index failed", e);
+                    } else {
+                        LOGGER.info("Task search index rebuilt");
+                    }
+                });
+    }
+
+    private boolean isUpToDate() {
+        try (var entityManager = entityManagerFactory.createEntityManager()) {
+            var indexed = Search.session(entityManager)
+                    .search(Task.class)
+                    .where(f -> f.matchAll())
+                    .fetchTotalHitCount();
+            return indexed == taskRepository.count();
+        }
+    }
+
+}
@@ -0,0 +1,22 @@
+package hexlet.code.component;
+
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.stereotype.Component;
+
+@Component
+@ConfigurationProperties(prefix = "search-index")
+@Setter
+@Getter
+public class SearchIndexProperties {
+
+    private Reindex reindex = Reindex.AUTO;
+
+    public enum Reindex {
+        AUTO,
+        ALWAYS,
+        NEVER
+    }
+
+}
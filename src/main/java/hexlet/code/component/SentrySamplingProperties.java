@@ -0,0 +1,36 @@
+package hexlet.code.component;
+
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.stereotype.Component;
+import org.springframework.util.AntPathMatcher;
+
+import java.util.ArrayList;
+import java.util.List;
+
+@Component
+@ConfigurationProperties(prefix = "sentry-sampling")
+@Setter
+@Getter
+public class SentrySamplingProperties {
+
+    private static final AntPathMatcher PATH_MATCHER = new AntPathMatcher();
+
+    private double defaultRate = 0.1;
+    private List<Rule> rules = new ArrayList<>();
+
+    @Setter
+    @Getter
+    public static class Rule {
+        private String method;
+        private String path;
+        private double rate;
+
+        public boolean matches(String requestMethod, String requestPath) {
+            return (method == null || method.equalsIgnoreCase(requestMethod))
+                    && (path == null || PATH_MATCHER.match(path, requestPath));
+        }
+    }
+
+}
@@ -0,0 +1,34 @@
+package hexlet.code.component;
+
+import io.sentry.SamplingContext;
+import io.sentry.SentryOptions;
+import jakarta.servlet.http.HttpServletRequest;
+import lombok.AllArgsConstructor;
+import org.springframework.stereotype.Component;
+
+@Component
+@AllArgsConstructor
+public class SentryTracesSampler implements SentryOptions.TracesSamplerCallback {
+
+    private SentrySamplingProperties properties;
+
+    @Override
+    public Double sample(SamplingContext context) {
+        var parentSampled = context.getTransactionContext().getParentSampled();
+        if (parentSampled != null) {
+            return parentSampled ? 1.0 : 0.0;
+        }
+
+        var customContext = context.getCustomSamplingContext();
+        if (customContext == null || !(customContext.get("request") instanceof HttpServletRequest request)) {
+            return properties.getDefaultRate();
+        }
+
+        return properties.getRules().stream()
+                .filter(rule -> rule.matches(request.getMethod(), request.getRequestURI()))
+                .findFirst()
+                .map(SentrySamplingProperties.Rule::getRate)
+                .orElse(properties.getDefaultRate());
+    }
+
+}
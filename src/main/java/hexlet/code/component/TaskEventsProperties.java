@@ -0,0 +1,28 @@
+package hexlet.code.component;
+
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+
+@Component
+@ConfigurationProperties(prefix = "task-events")
+@Setter
+@Getter
+public class TaskEventsProperties {
+
+    private int bufferSize = 256;
+    private int historySize = 1024;
+    private Overflow overflow = Overflow.DROP_OLDEST;
+    private Duration timeout = Duration.ofMinutes(30);
+    private Duration sendTimeout = Duration.ofSeconds(10);
+
+    public enum Overflow {
+        DROP_OLDEST,
+        DROP_NEWEST,
+        DISCONNECT
+    }
+
+}
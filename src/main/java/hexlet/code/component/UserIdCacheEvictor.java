@@ -0,0 +1,16 @@
+package hexlet.code.component;
+
+import hexlet.code.dto.UserDTO.UserEmailChangedDTO;
+import org.springframework.cache.annotation.CacheEvict;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+@Component
+public class UserIdCacheEvictor {
+
+    @TransactionalEventListener(fallbackExecution = true)
+    @CacheEvict(cacheNames = "userIdsByEmail", allEntries = true)
+    public void onUserEmailChanged(UserEmailChangedDTO event) {
+    }
+
+}
@@ -6,26 +6,46 @@ import com.nimbusds.jose.jwk.RSAKey;
 import com.nimbusds.jose.jwk.source.ImmutableJWKSet;
 import com.nimbusds.jose.jwk.source.JWKSource;
 import com.nimbusds.jose.proc.SecurityContext;
+import hexlet.code.component.PasswordEncoderProperties;
 import hexlet.code.component.RsaKeyProperties;
 import lombok.AllArgsConstructor;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
+import org.springframework.security.crypto.argon2.Argon2PasswordEncoder;
 import org.springframework.security.crypto.bcrypt.BCryptPasswordEncoder;
+import org.springframework.security.crypto.password.DelegatingPasswordEncoder;
 import org.springframework.security.crypto.password.PasswordEncoder;
 import org.springframework.security.oauth2.jwt.JwtDecoder;
 import org.springframework.security.oauth2.jwt.JwtEncoder;
 import org.springframework.security.oauth2.jwt.NimbusJwtDecoder;
 import org.springframework.security.oauth2.jwt.NimbusJwtEncoder;
 
+import java.util.Map;
+
 @Configuration
 @AllArgsConstructor
 public class EncodersConfig {
 
     private RsaKeyProperties rsaKeys;
+    private PasswordEncoderProperties passwordEncoderProperties;
 
     @Bean
     public PasswordEncoder passwordEncoder() {
-        return new BCryptPasswordEncoder();
+        var bcryptProperties = passwordEncoderProperties.getBcrypt();
+        var argon2Properties = passwordEncoderProperties.getArgon2();
+        var bcrypt = new BCryptPasswordEncoder(bcryptProperties.getStrength());
+        var argon2 = new Argon2PasswordEncoder(
+                argon2Properties.getSaltLength(),
+                argon2Properties.getHashLength(),
+                argon2Properties.getParallelism(),
+                argon2Properties.getMemory(),
+                argon2Properties.getIterations());
+
+        var encoder = new DelegatingPasswordEncoder(passwordEncoderProperties.getId(), Map.of(
+                "bcrypt", bcrypt,
+                "argon2", argon2));
+        encoder.setDefaultPasswordEncoderForMatches(bcrypt);
+        return encoder;
     }
 
     @Bean
@@ -0,0 +1,55 @@
+package hexlet.code.config;
+
+import hexlet.code.component.DeletionJobProperties;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnThreading;
+import org.springframework.boot.autoconfigure.task.TaskExecutionAutoConfiguration;
+import org.springframework.boot.autoconfigure.thread.Threading;
+import org.springframework.boot.task.SimpleAsyncTaskExecutorBuilder;
+import org.springframework.boot.task.ThreadPoolTaskExecutorBuilder;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.context.annotation.Primary;
+import org.springframework.core.task.SimpleAsyncTaskExecutor;
+import org.springframework.scheduling.annotation.AsyncAnnotationBeanPostProcessor;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskExecutor;
+
+@Configuration
+public class ExecutorConfig {
+
+    private static final String APPLICATION_TASK_EXECUTOR =
+            TaskExecutionAutoConfiguration.APPLICATION_TASK_EXECUTOR_BEAN_NAME;
+    private static final String DEFAULT_TASK_EXECUTOR =
+            AsyncAnnotationBeanPostProcessor.DEFAULT_TASK_EXECUTOR_BEAN_NAME;
+
+    @Bean(name = {APPLICATION_TASK_EXECUTOR, DEFAULT_TASK_EXECUTOR})
+    @Primary
+    @ConditionalOnThreading(Threading.PLATFORM)
+    public ThreadPoolTaskExecutor applicationTaskExecutor(ThreadPoolTaskExecutorBuilder builder) {
+        return builder.build();
+    }
+
+    @Bean(name = {APPLICATION_TASK_EXECUTOR, DEFAULT_TASK_EXECUTOR})
+    @Primary
+    @ConditionalOnThreading(Threading.VIRTUAL)
+    public SimpleAsyncTaskExecutor applicationTaskExecutorVirtualThreads(SimpleAsyncTaskExecutorBuilder builder) {
+        return builder.build();
+    }
+
+    @Bean
+    public SimpleAsyncTaskExecutor taskEventsExecutor() {
+        var executor = new SimpleAsyncTaskExecutor("task-events-");
+        executor.setVirtualThreads(true);
+        return executor;
+    }
+
+    @Bean
+    public ThreadPoolTaskExecutor deletionJobsExecutor(DeletionJobProperties properties) {
+        var executor = new ThreadPoolTaskExecutor();
+        executor.setCorePoolSize(properties.getPoolSize());
+        executor.setMaxPoolSize(properties.getPoolSize());
+        executor.setQueueCapacity(properties.getQueueCapacity());
+        executor.setThreadNamePrefix("deletion-job-");
+        return executor;
+    }
+
+}
@@ -0,0 +1,27 @@
+package hexlet.code.config;
+
+import hexlet.code.component.OutboxProperties;
+import hexlet.code.component.OutboxRelay;
+import lombok.AllArgsConstructor;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.scheduling.annotation.EnableScheduling;
+import org.springframework.scheduling.annotation.SchedulingConfigurer;
+import org.springframework.scheduling.config.ScheduledTaskRegistrar;
+
+@Configuration
+@EnableScheduling
+@ConditionalOnProperty(name = "outbox.relay-enabled", havingValue = "true", matchIfMissing = true)
+@AllArgsConstructor
+public class OutboxConfig implements SchedulingConfigurer {
+
+    private OutboxRelay outboxRelay;
+    private OutboxProperties properties;
+
+    @Override
+    public void configureTasks(ScheduledTaskRegistrar registrar) {
+        registrar.addFixedDelayTask(outboxRelay::relay, properties.getPollInterval());
+        registrar.addFixedDelayTask(outboxRelay::purge, properties.getPurgeInterval());
+    }
+
+}
@@ -0,0 +1,17 @@
+package hexlet.code.config;
+
+import org.apache.lucene.analysis.core.LowerCaseFilterFactory;
+import org.hibernate.search.backend.lucene.analysis.LuceneAnalysisConfigurationContext;
+import org.hibernate.search.backend.lucene.analysis.LuceneAnalysisConfigurer;
+
+public class SearchAnalysisConfigurer implements LuceneAnalysisConfigurer {
+
+    public static final String LOWERCASE = "lowercase";
+
+    @Override
+    public void configure(LuceneAnalysisConfigurationContext context) {
+        context.normalizer(LOWERCASE).custom()
+                .tokenFilter(LowerCaseFilterFactory.class);
+    }
+
+}
@@ -0,0 +1,23 @@
+package hexlet.code.controller;
+
+import hexlet.code.dto.DeletionJobDTO;
+import hexlet.code.service.DeletionJobService;
+import lombok.AllArgsConstructor;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.PathVariable;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RestController;
+
+@RestController
+@RequestMapping("/api/jobs")
+@AllArgsConstructor
+public class DeletionJobController {
+
+    private DeletionJobService deletionJobService;
+
+    @GetMapping("/{id}")
+    public DeletionJobDTO show(@PathVariable String id) {
+        return deletionJobService.findById(id);
+    }
+
+}
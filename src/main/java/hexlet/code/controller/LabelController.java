@@ -1,8 +1,10 @@
 package hexlet.code.controller;
 
+import hexlet.code.dto.DeletionJobDTO;
 import hexlet.code.dto.LabelDTO.LabelCreateDTO;
 import hexlet.code.dto.LabelDTO.LabelDTO;
 import hexlet.code.dto.LabelDTO.LabelUpdateDTO;
+import hexlet.code.service.DeletionJobService;
 import hexlet.code.service.LabelService;
 import jakarta.validation.Valid;
 import lombok.AllArgsConstructor;
@@ -15,9 +17,12 @@ import org.springframework.web.bind.annotation.PostMapping;
 import org.springframework.web.bind.annotation.PutMapping;
 import org.springframework.web.bind.annotation.RequestBody;
 import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
 import org.springframework.web.bind.annotation.ResponseStatus;
 import org.springframework.web.bind.annotation.RestController;
+import org.springframework.web.context.request.WebRequest;
 
+import java.net.URI;
 import java.util.List;
 
 @RestController
@@ -26,17 +31,25 @@ import java.util.List;
 public class LabelController {
 
     private LabelService labelService;
+    private DeletionJobService deletionJobService;
 
     @GetMapping
-    public ResponseEntity<List<LabelDTO>> index() {
-        var result =  labelService.getAllLabels();
+    public ResponseEntity<List<LabelDTO>> index(WebRequest request) {
+        if (request.checkNotModified(labelService.getAllLabelsVersion().toETag())) {
+            return null;
+        }
+        var result = labelService.getAllLabels();
         return ResponseEntity.ok()
                 .header("X-Total-Count", String.valueOf(result.size()))
                 .body(result);
     }
 
     @GetMapping("/{id}")
-    public LabelDTO show(@PathVariable Long id) {
+    public LabelDTO show(@PathVariable Long id, WebRequest request) {
+        var version = labelService.getLabelVersion(id);
+        if (request.checkNotModified(version.toETag(), version.toLastModified())) {
+            return null;
+        }
         return labelService.findById(id);
     }
 
@@ -52,9 +65,17 @@ public class LabelController {
     }
 
     @DeleteMapping("/{id}")
-    @ResponseStatus(HttpStatus.NO_CONTENT)
-    public void delete(@PathVariable Long id) {
+    public ResponseEntity<DeletionJobDTO> delete(@PathVariable Long id,
+                                                 @RequestParam(defaultValue = "false") boolean async,
+                                                 @RequestParam(defaultValue = "false") boolean detachTasks) {
+        if (async || detachTasks) {
+            var job = deletionJobService.submitLabelDeletion(id, detachTasks);
+            return ResponseEntity.accepted()
+                    .location(URI.create("/api/jobs/" + job.getId()))
+                    .body(job);
+        }
         labelService.deleteLabel(id);
+        return ResponseEntity.noContent().build();
     }
 
 }
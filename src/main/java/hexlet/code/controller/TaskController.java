@@ -1,12 +1,16 @@
 package hexlet.code.controller;
 
+import hexlet.code.dto.TaskDTO.TaskBulkUpdateDTO;
 import hexlet.code.dto.TaskDTO.TaskCreateDTO;
 import hexlet.code.dto.TaskDTO.TaskDTO;
 import hexlet.code.dto.TaskDTO.TaskParamsDTO;
 import hexlet.code.dto.TaskDTO.TaskUpdateDTO;
 import hexlet.code.service.TaskService;
 import jakarta.validation.Valid;
+import jakarta.validation.constraints.Size;
 import lombok.AllArgsConstructor;
+import org.springframework.data.domain.Page;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.DeleteMapping;
@@ -15,9 +19,13 @@ import org.springframework.web.bind.annotation.PathVariable;
 import org.springframework.web.bind.annotation.PostMapping;
 import org.springframework.web.bind.annotation.PutMapping;
 import org.springframework.web.bind.annotation.RequestBody;
+import org.springframework.web.bind.annotation.RequestHeader;
 import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
 import org.springframework.web.bind.annotation.ResponseStatus;
 import org.springframework.web.bind.annotation.RestController;
+import org.springframework.web.context.request.WebRequest;
+import org.springframework.web.servlet.support.ServletUriComponentsBuilder;
 
 import java.util.List;
 
@@ -26,18 +34,40 @@ import java.util.List;
 @AllArgsConstructor
 public class TaskController {
 
+    private static final int MAX_BULK_SIZE = 1000;
+
     private TaskService taskService;
 
     @GetMapping
-    public ResponseEntity<List<TaskDTO>> index(TaskParamsDTO paramsDTO) {
+    public ResponseEntity<List<TaskDTO>> index(TaskParamsDTO paramsDTO,
+                                               @RequestParam(name = "_start", required = false) Integer start,
+                                               @RequestParam(name = "_end", required = false) Integer end,
+                                               WebRequest request) {
+        if (request.checkNotModified(taskService.getAllTasksVersion().toETag())) {
+            return null;
+        }
+        if (start != null) {
+            paramsDTO.setStart(start);
+        }
+        if (end != null) {
+            paramsDTO.setEnd(end);
+        }
         var result = taskService.getAllTasks(paramsDTO);
-        return ResponseEntity.ok()
-                .header("X-Total-Count", String.valueOf(result.size()))
-                .body(result);
+        var response = ResponseEntity.ok()
+                .header("X-Total-Count", String.valueOf(result.getTotalElements()));
+        var nextLink = getNextLink(paramsDTO, result);
+        if (nextLink != null) {
+            response.header(HttpHeaders.LINK, "<" + nextLink + ">; rel=\"next\"");
+        }
+        return response.body(result.getContent());
     }
 
     @GetMapping("/{id}")
-    public TaskDTO show(@PathVariable Long id) {
+    public TaskDTO show(@PathVariable Long id, WebRequest request) {
+        var version = taskService.getTaskVersion(id);
+        if (request.checkNotModified(version.toETag(), version.toLastModified())) {
+            return null;
+        }
         return taskService.findById(id);
     }
 
@@ -48,8 +78,9 @@ public class TaskController {
     }
 
     @PutMapping("/{id}")
-    public TaskDTO update(@PathVariable Long id, @Valid @RequestBody TaskUpdateDTO dto) {
-        return taskService.updateTask(id, dto);
+    public TaskDTO update(@PathVariable Long id, @Valid @RequestBody TaskUpdateDTO dto,
+                          @RequestHeader(name = HttpHeaders.IF_MATCH, required = false) String ifMatch) {
+        return taskService.updateTask(id, dto, ifMatch);
     }
 
     @DeleteMapping("/{id}")
@@ -58,4 +89,43 @@ public class TaskController {
         taskService.deleteTask(id);
     }
 
+    @PostMapping("/bulk")
+    @ResponseStatus(HttpStatus.CREATED)
+    public List<TaskDTO> createAll(@RequestBody @Size(max = MAX_BULK_SIZE) List<@Valid TaskCreateDTO> dtos) {
+        return taskService.createTasks(dtos);
+    }
+
+    @PutMapping("/bulk")
+    public List<TaskDTO> updateAll(@RequestBody @Size(max = MAX_BULK_SIZE) List<@Valid TaskBulkUpdateDTO> dtos) {
+        return taskService.updateTasks(dtos);
+    }
+
+    @DeleteMapping("/bulk")
+    @ResponseStatus(HttpStatus.NO_CONTENT)
+    public void deleteAll(@RequestBody @Size(max = MAX_BULK_SIZE) List<Long> ids) {
+        taskService.deleteTasks(ids);
+    }
+
+    private String getNextLink(TaskParamsDTO paramsDTO, Page<TaskDTO> page) {
+        var pageSize = taskService.getPageSize(paramsDTO);
+        if (page.getNumberOfElements() < pageSize) {
+            return null;
+        }
+        var uri = ServletUriComponentsBuilder.fromCurrentRequest();
+        if (paramsDTO.getAfterId() != null) {
+            var lastId = page.getContent().get(page.getNumberOfElements() - 1).getId();
+            return uri.replaceQueryParam("afterId", lastId)
+                    .replaceQueryParam("_start", 0)
+                    .replaceQueryParam("_end", pageSize)
+                    .toUriString();
+        }
+        var nextStart = page.getPageable().getOffset() + page.getNumberOfElements();
+        if (nextStart >= page.getTotalElements()) {
+            return null;
+        }
+        return uri.replaceQueryParam("_start", nextStart)
+                .replaceQueryParam("_end", nextStart + pageSize)
+                .toUriString();
+    }
+
 }
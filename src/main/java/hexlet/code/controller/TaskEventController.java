@@ -0,0 +1,24 @@
+package hexlet.code.controller;
+
+import hexlet.code.service.TaskEventService;
+import lombok.AllArgsConstructor;
+import org.springframework.http.MediaType;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.RequestHeader;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RestController;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+
+@RestController
+@RequestMapping("/api/tasks/events")
+@AllArgsConstructor
+public class TaskEventController {
+
+    private TaskEventService taskEventService;
+
+    @GetMapping(produces = MediaType.TEXT_EVENT_STREAM_VALUE)
+    public SseEmitter subscribe(@RequestHeader(name = "Last-Event-ID", required = false) String lastEventId) {
+        return taskEventService.subscribe(lastEventId);
+    }
+
+}
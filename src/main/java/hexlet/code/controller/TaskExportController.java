@@ -0,0 +1,80 @@
+package hexlet.code.controller;
+
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ObjectWriter;
+import com.fasterxml.jackson.databind.SerializationFeature;
+import hexlet.code.dto.TaskDTO.TaskDTO;
+import hexlet.code.dto.TaskDTO.TaskParamsDTO;
+import hexlet.code.service.TaskService;
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RestController;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.UncheckedIOException;
+
+@RestController
+@RequestMapping("/api/tasks/export")
+public class TaskExportController {
+
+    private final TaskService taskService;
+    private final ObjectMapper om;
+    private final ObjectWriter writer;
+
+    public TaskExportController(TaskService taskService, ObjectMapper om) {
+        this.taskService = taskService;
+        this.om = om;
+        this.writer = om.writerFor(TaskDTO.class)
+                .without(SerializationFeature.FLUSH_AFTER_WRITE_VALUE);
+    }
+
+    @GetMapping(produces = MediaType.APPLICATION_NDJSON_VALUE)
+    public ResponseEntity<StreamingResponseBody> exportNdjson(TaskParamsDTO paramsDTO) {
+        StreamingResponseBody body = outputStream -> {
+            try (var generator = createGenerator(outputStream)) {
+                generator.setRootValueSeparator(null);
+                taskService.exportTasks(paramsDTO, task -> {
+                    try {
+                        writer.writeValue(generator, task);
+                        generator.writeRaw('\n');
+                    } catch (IOException e) {
+                        throw new UncheckedIOException(e);
+                    }
+                });
+            }
+        };
+        return ResponseEntity.ok()
+                .contentType(MediaType.APPLICATION_NDJSON)
+                .body(body);
+    }
+
+    @GetMapping
+    public ResponseEntity<StreamingResponseBody> exportJson(TaskParamsDTO paramsDTO) {
+        StreamingResponseBody body = outputStream -> {
+            try (var generator = createGenerator(outputStream)) {
+                generator.writeStartArray();
+                taskService.exportTasks(paramsDTO, task -> {
+                    try {
+                        writer.writeValue(generator, task);
+                    } catch (IOException e) {
+                        throw new UncheckedIOException(e);
+                    }
+                });
+                generator.writeEndArray();
+            }
+        };
+        return ResponseEntity.ok()
+                .contentType(MediaType.APPLICATION_JSON)
+                .body(body);
+    }
+
+    private JsonGenerator createGenerator(OutputStream outputStream) throws IOException {
+        return om.getFactory().createGenerator(outputStream);
+    }
+
+}
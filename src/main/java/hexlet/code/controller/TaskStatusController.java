@@ -17,6 +17,7 @@ import org.springframework.web.bind.annotation.RequestBody;
 import org.springframework.web.bind.annotation.RequestMapping;
 import org.springframework.web.bind.annotation.ResponseStatus;
 import org.springframework.web.bind.annotation.RestController;
+import org.springframework.web.context.request.WebRequest;
 
 import java.util.List;
 
@@ -28,7 +29,10 @@ public class TaskStatusController {
     private TaskStatusService taskStatusService;
 
     @GetMapping
-    public ResponseEntity<List<TaskStatusDTO>> index() {
+    public ResponseEntity<List<TaskStatusDTO>> index(WebRequest request) {
+        if (request.checkNotModified(taskStatusService.getAllStatusesVersion().toETag())) {
+            return null;
+        }
         var result = taskStatusService.getAllStatuses();
         return ResponseEntity.ok()
                 .header("X-Total-Count", String.valueOf(result.size()))
@@ -36,7 +40,11 @@ public class TaskStatusController {
     }
 
     @GetMapping("/{id}")
-    public TaskStatusDTO show(@PathVariable Long id) {
+    public TaskStatusDTO show(@PathVariable Long id, WebRequest request) {
+        var version = taskStatusService.getStatusVersion(id);
+        if (request.checkNotModified(version.toETag(), version.toLastModified())) {
+            return null;
+        }
         return taskStatusService.findById(id);
     }
 
@@ -1,8 +1,10 @@
 package hexlet.code.controller;
 
+import hexlet.code.dto.DeletionJobDTO;
 import hexlet.code.dto.UserDTO.UserCreateDTO;
 import hexlet.code.dto.UserDTO.UserDTO;
 import hexlet.code.dto.UserDTO.UserUpdateDTO;
+import hexlet.code.service.DeletionJobService;
 import hexlet.code.service.UserService;
 import jakarta.validation.Valid;
 import lombok.AllArgsConstructor;
@@ -16,9 +18,12 @@ import org.springframework.web.bind.annotation.PostMapping;
 import org.springframework.web.bind.annotation.PutMapping;
 import org.springframework.web.bind.annotation.RequestBody;
 import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
 import org.springframework.web.bind.annotation.ResponseStatus;
 import org.springframework.web.bind.annotation.RestController;
+import org.springframework.web.context.request.WebRequest;
 
+import java.net.URI;
 import java.util.List;
 
 @RestController
@@ -27,9 +32,13 @@ import java.util.List;
 public class UserController {
 
     private UserService userService;
+    private DeletionJobService deletionJobService;
 
     @GetMapping
-    public ResponseEntity<List<UserDTO>> index() {
+    public ResponseEntity<List<UserDTO>> index(WebRequest request) {
+        if (request.checkNotModified(userService.getAllUsersVersion().toETag())) {
+            return null;
+        }
         var result = userService.getAllUsers();
         return ResponseEntity.ok()
                 .header("X-Total-Count", String.valueOf(result.size()))
@@ -37,7 +46,11 @@ public class UserController {
     }
 
     @GetMapping("/{id}")
-    public UserDTO show(@PathVariable Long id) {
+    public UserDTO show(@PathVariable Long id, WebRequest request) {
+        var version = userService.getUserVersion(id);
+        if (request.checkNotModified(version.toETag(), version.toLastModified())) {
+            return null;
+        }
         return userService.findById(id);
     }
 
@@ -48,17 +61,25 @@ public class UserController {
     }
 
     @PutMapping("/{id}")
-    @PreAuthorize("@userService.findById(#id).getEmail() == authentication.name")
+    @PreAuthorize("@userUtils.isCurrentUser(#id)")
     @ResponseStatus(HttpStatus.OK)
     public UserDTO update(@PathVariable Long id, @Valid @RequestBody UserUpdateDTO dto) {
         return userService.updateUser(id, dto);
     }
 
     @DeleteMapping("/{id}")
-    @PreAuthorize("@userService.findById(#id).getEmail() == authentication.name")
-    @ResponseStatus(HttpStatus.NO_CONTENT)
-    public void delete(@PathVariable Long id) {
+    @PreAuthorize("@userUtils.isCurrentUser(#id)")
+    public ResponseEntity<DeletionJobDTO> delete(@PathVariable Long id,
+                                                 @RequestParam(defaultValue = "false") boolean async,
+                                                 @RequestParam(defaultValue = "false") boolean detachTasks) {
+        if (async || detachTasks) {
+            var job = deletionJobService.submitUserDeletion(id, detachTasks);
+            return ResponseEntity.accepted()
+                    .location(URI.create("/api/jobs/" + job.getId()))
+                    .body(job);
+        }
         userService.deleteUser(id);
+        return ResponseEntity.noContent().build();
     }
 
 }
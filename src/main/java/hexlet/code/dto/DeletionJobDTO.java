@@ -0,0 +1,26 @@
+package hexlet.code.dto;
+
+import lombok.Getter;
+import lombok.Setter;
+
+import java.time.Instant;
+
+@Getter
+@Setter
+public class DeletionJobDTO {
+
+    public static final String PENDING = "pending";
+    public static final String RUNNING = "running";
+    public static final String SUCCEEDED = "succeeded";
+    public static final String FAILED = "failed";
+
+    private String id;
+    private String resourceType;
+    private Long resourceId;
+    private volatile String status;
+    private volatile long processedTasks;
+    private volatile String error;
+    private Instant createdAt;
+    private volatile Instant finishedAt;
+
+}
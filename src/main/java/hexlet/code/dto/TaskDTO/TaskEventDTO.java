@@ -0,0 +1,18 @@
+package hexlet.code.dto.TaskDTO;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+@Getter
+@AllArgsConstructor
+public class TaskEventDTO {
+
+    public static final String CREATED = "created";
+    public static final String UPDATED = "updated";
+    public static final String DELETED = "deleted";
+
+    private String type;
+    private Long id;
+    private TaskDTO task;
+
+}
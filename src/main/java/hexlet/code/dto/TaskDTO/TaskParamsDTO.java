@@ -7,9 +7,14 @@ import lombok.Setter;
 @Getter
 public class TaskParamsDTO {
 
+    private String q;
     private String titleCont;
     private Long assigneeId;
     private String status;
     private Long labelId;
 
+    private Long afterId;
+    private Integer start;
+    private Integer end;
+
 }
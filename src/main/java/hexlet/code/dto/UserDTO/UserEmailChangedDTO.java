@@ -0,0 +1,12 @@
+package hexlet.code.dto.UserDTO;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+@Getter
+@AllArgsConstructor
+public class UserEmailChangedDTO {
+
+    private Long id;
+
+}
@@ -0,0 +1,59 @@
+package hexlet.code.dto;
+
+import lombok.Getter;
+
+import java.time.Instant;
+import java.util.Arrays;
+
+@Getter
+public class VersionStamp {
+
+    private final String tag;
+    private final Instant lastModified;
+
+    public VersionStamp(Long count, Long maxId, Long versionSum, Instant lastModified) {
+        this(tag(count, maxId, versionSum), lastModified);
+    }
+
+    public VersionStamp(Long count, Long maxId, Long versionSum, Instant lastModified,
+                        Long relatedCount, Long relatedMaxId, Long relatedVersionSum) {
+        this(tag(count, maxId, versionSum) + "." + tag(relatedCount, relatedMaxId, relatedVersionSum), lastModified);
+    }
+
+    public VersionStamp(Long id, Long version, Instant lastModified,
+                        Long relatedId, Long relatedVersion, Instant relatedLastModified) {
+        this(tag(1L, id, version) + "." + (relatedId == null ? "0-0" : relatedId + "-" + relatedVersion),
+                latest(lastModified, relatedLastModified));
+    }
+
+    private VersionStamp(String tag, Instant lastModified) {
+        this.tag = tag;
+        this.lastModified = lastModified;
+    }
+
+    public String toETag() {
+        return "\"" + tag + "\"";
+    }
+
+    public boolean matches(String ifMatch) {
+        return Arrays.stream(ifMatch.split(","))
+                .map(String::trim)
+                .anyMatch(eTag -> eTag.equals("*") || eTag.equals(toETag()));
+    }
+
+    public long toLastModified() {
+        return lastModified == null ? -1 : lastModified.toEpochMilli();
+    }
+
+    private static String tag(Long count, Long maxId, Long versionSum) {
+        return count + "-" + maxId + "-" + versionSum;
+    }
+
+    private static Instant latest(Instant first, Instant second) {
+        if (first == null || second == null) {
+            return first == null ? second : first;
+        }
+        return first.isAfter(second) ? first : second;
+    }
+
+}
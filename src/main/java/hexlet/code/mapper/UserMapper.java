@@ -5,6 +5,7 @@ import hexlet.code.dto.UserDTO.UserDTO;
 import hexlet.code.dto.UserDTO.UserUpdateDTO;
 import hexlet.code.model.User;
 import org.mapstruct.Mapper;
+import org.mapstruct.Mapping;
 import org.mapstruct.MappingConstants;
 import org.mapstruct.MappingTarget;
 import org.mapstruct.NullValuePropertyMappingStrategy;
@@ -20,6 +21,7 @@ public abstract class UserMapper {
 
     public abstract User map(UserCreateDTO userCreateDto);
     public abstract UserDTO map(User user);
+    @Mapping(target = "password", ignore = true)
     public abstract void update(UserUpdateDTO data, @MappingTarget User model);
 
 }
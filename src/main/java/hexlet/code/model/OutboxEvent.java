@@ -0,0 +1,47 @@
+package hexlet.code.model;
+
+import jakarta.persistence.Column;
+import jakarta.persistence.Entity;
+import jakarta.persistence.EntityListeners;
+import jakarta.persistence.GeneratedValue;
+import jakarta.persistence.Id;
+import jakarta.persistence.SequenceGenerator;
+import jakarta.persistence.Table;
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.data.annotation.CreatedDate;
+import org.springframework.data.jpa.domain.support.AuditingEntityListener;
+
+import java.time.Instant;
+
+import static jakarta.persistence.GenerationType.SEQUENCE;
+
+@Entity
+@Table(name = "outbox_events")
+@EntityListeners(AuditingEntityListener.class)
+@Getter
+@Setter
+public class OutboxEvent implements BaseEntity {
+
+    @Id
+    @GeneratedValue(strategy = SEQUENCE, generator = "outbox_events_seq")
+    @SequenceGenerator(name = "outbox_events_seq", sequenceName = "outbox_events_seq", allocationSize = 50)
+    private Long id;
+
+    private String aggregateType;
+
+    private Long aggregateId;
+
+    private String eventType;
+
+    private String payload;
+
+    @CreatedDate
+    private Instant createdAt;
+
+    private Instant publishedAt;
+
+    @Column(name = "relay_position")
+    private Long position;
+
+}
@@ -0,0 +1,22 @@
+package hexlet.code.model;
+
+import jakarta.persistence.Entity;
+import jakarta.persistence.Id;
+import jakarta.persistence.Table;
+import lombok.Getter;
+import lombok.Setter;
+
+@Entity
+@Table(name = "outbox_relay_state")
+@Getter
+@Setter
+public class OutboxRelayState implements BaseEntity {
+
+    public static final Integer ID = 1;
+
+    @Id
+    private Integer id;
+
+    private Long lastPosition;
+
+}
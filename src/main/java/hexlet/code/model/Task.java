@@ -1,5 +1,6 @@
 package hexlet.code.model;
 
+import hexlet.code.config.SearchAnalysisConfigurer;
 import jakarta.persistence.Column;
 import jakarta.persistence.Entity;
 import jakarta.persistence.EntityListeners;
@@ -10,52 +11,81 @@ import jakarta.persistence.JoinColumn;
 import jakarta.persistence.JoinTable;
 import jakarta.persistence.ManyToMany;
 import jakarta.persistence.ManyToOne;
+import jakarta.persistence.SequenceGenerator;
 import jakarta.persistence.Table;
+import jakarta.persistence.Version;
 import jakarta.validation.constraints.NotBlank;
 import lombok.Getter;
 import lombok.Setter;
+import org.hibernate.annotations.BatchSize;
+import org.hibernate.search.mapper.pojo.automaticindexing.ReindexOnUpdate;
+import org.hibernate.search.mapper.pojo.mapping.definition.annotation.FullTextField;
+import org.hibernate.search.mapper.pojo.mapping.definition.annotation.Indexed;
+import org.hibernate.search.mapper.pojo.mapping.definition.annotation.IndexedEmbedded;
+import org.hibernate.search.mapper.pojo.mapping.definition.annotation.IndexingDependency;
+import org.hibernate.search.mapper.pojo.mapping.definition.annotation.KeywordField;
 import org.springframework.data.annotation.CreatedDate;
+import org.springframework.data.annotation.LastModifiedDate;
 import org.springframework.data.jpa.domain.support.AuditingEntityListener;
 
+import java.time.Instant;
 import java.time.LocalDate;
 import java.util.HashSet;
 import java.util.Set;
 
-import static jakarta.persistence.GenerationType.IDENTITY;
+import static jakarta.persistence.GenerationType.SEQUENCE;
 
 @Entity
 @Table(name = "tasks")
+@Indexed
 @EntityListeners(AuditingEntityListener.class)
 @Getter
 @Setter
 public class Task implements BaseEntity {
 
     @Id
-    @GeneratedValue(strategy = IDENTITY)
+    @GeneratedValue(strategy = SEQUENCE, generator = "tasks_seq")
+    @SequenceGenerator(name = "tasks_seq", sequenceName = "tasks_seq", allocationSize = 50)
     private Long id;
 
     @NotBlank
+    @FullTextField
+    @KeywordField(name = "name_keyword", normalizer = SearchAnalysisConfigurer.LOWERCASE)
     @Column(name = "name")
     private String name;
 
     @Column(name = "index")
     private Long index;
 
+    @FullTextField
     @Column(name = "description")
     private String description;
 
     @CreatedDate
     private LocalDate createdAt;
 
+    @LastModifiedDate
+    private Instant updatedAt;
+
+    @Version
+    private Long version;
+
     @ManyToOne(fetch = FetchType.LAZY)
+    @IndexedEmbedded(includeEmbeddedObjectId = true)
+    @IndexingDependency(reindexOnUpdate = ReindexOnUpdate.SHALLOW)
     @JoinColumn(name = "task_status_id")
     private TaskStatus taskStatus;
 
     @ManyToOne(fetch = FetchType.LAZY)
+    @IndexedEmbedded(includeEmbeddedObjectId = true)
+    @IndexingDependency(reindexOnUpdate = ReindexOnUpdate.SHALLOW)
     @JoinColumn(name = "assignee_id")
     private User assignee;
 
     @ManyToMany
+    @BatchSize(size = 100)
+    @IndexedEmbedded(includeEmbeddedObjectId = true)
+    @IndexingDependency(reindexOnUpdate = ReindexOnUpdate.SHALLOW)
     @JoinTable(name = "tasks_labels",
             joinColumns = @JoinColumn(name = "task_id"),
             inverseJoinColumns = @JoinColumn(name = "labels_id"))
@@ -1,7 +1,12 @@
 package hexlet.code.repository;
 
+import hexlet.code.dto.VersionStamp;
 import hexlet.code.model.Label;
+import jakarta.persistence.QueryHint;
+import org.hibernate.jpa.HibernateHints;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
 import org.springframework.stereotype.Repository;
 
 import java.util.List;
@@ -12,6 +17,16 @@ import java.util.Set;
 public interface LabelRepository extends JpaRepository<Label, Long> {
 
     Optional<Label> findByName(String name);
+
+    @QueryHints(@QueryHint(name = HibernateHints.HINT_CACHEABLE, value = "true"))
     Optional<Set<Label>> findByIdIn(List<Long> ids);
 
+    @Query("select new hexlet.code.dto.VersionStamp(count(l), max(l.id), sum(l.version), "
+            + "max(l.updatedAt)) from Label l")
+    VersionStamp findVersionStamp();
+
+    @Query("select new hexlet.code.dto.VersionStamp(1L, l.id, l.version, l.updatedAt) "
+            + "from Label l where l.id = :id")
+    Optional<VersionStamp> findVersionStampById(Long id);
+
 }
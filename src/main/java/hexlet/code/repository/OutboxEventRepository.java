@@ -0,0 +1,26 @@
+package hexlet.code.repository;
+
+import hexlet.code.model.OutboxEvent;
+import org.springframework.data.domain.Limit;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.stereotype.Repository;
+
+import java.time.Instant;
+import java.util.List;
+
+@Repository
+public interface OutboxEventRepository extends JpaRepository<OutboxEvent, Long> {
+
+    List<OutboxEvent> findByPublishedAtIsNullAndPositionIsNullOrderByCreatedAtAscIdAsc(Limit limit);
+
+    List<OutboxEvent> findByPublishedAtIsNullAndPositionIsNotNullOrderByPosition(Limit limit);
+
+    long countByPublishedAtIsNull();
+
+    @Modifying
+    @Query("delete from OutboxEvent e where e.publishedAt < :publishedAt")
+    int deletePublishedBefore(Instant publishedAt);
+
+}
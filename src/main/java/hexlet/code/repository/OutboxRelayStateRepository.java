@@ -0,0 +1,17 @@
+package hexlet.code.repository;
+
+import hexlet.code.model.OutboxRelayState;
+import jakarta.persistence.LockModeType;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Lock;
+import org.springframework.stereotype.Repository;
+
+import java.util.Optional;
+
+@Repository
+public interface OutboxRelayStateRepository extends JpaRepository<OutboxRelayState, Integer> {
+
+    @Lock(LockModeType.PESSIMISTIC_WRITE)
+    Optional<OutboxRelayState> findWithLockById(Integer id);
+
+}
@@ -1,18 +1,34 @@
 package hexlet.code.repository;
 
+import hexlet.code.dto.VersionStamp;
 import hexlet.code.model.Task;
+import org.springframework.data.domain.Limit;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.JpaSpecificationExecutor;
+import org.springframework.data.jpa.repository.Query;
 import org.springframework.stereotype.Repository;
 
+import java.util.List;
 import java.util.Optional;
 
 @Repository
-public interface TaskRepository extends JpaRepository<Task, Long>, JpaSpecificationExecutor<Task> {
+public interface TaskRepository extends JpaRepository<Task, Long>, JpaSpecificationExecutor<Task>,
+        TaskRepositoryCustom {
 
     Optional<Task> findByName(String name);
-    Optional<Task> findByLabelsName(String name);
-    Optional<Task> findByTaskStatusName(String name);
-    Optional<Task> findByAssigneeEmail(String email);
+    boolean existsByLabelsId(Long labelId);
+    boolean existsByTaskStatusId(Long taskStatusId);
+    boolean existsByAssigneeId(Long assigneeId);
+    List<Task> findByAssigneeIdOrderById(Long assigneeId, Limit limit);
+    List<Task> findByLabelsIdOrderById(Long labelId, Limit limit);
+
+    @Query("select new hexlet.code.dto.VersionStamp(count(t), max(t.id), sum(t.version), max(t.updatedAt), "
+            + "(select count(s) from TaskStatus s), (select max(s.id) from TaskStatus s), "
+            + "(select sum(s.version) from TaskStatus s)) from Task t")
+    VersionStamp findVersionStamp();
+
+    @Query("select new hexlet.code.dto.VersionStamp(t.id, t.version, t.updatedAt, s.id, s.version, s.updatedAt) "
+            + "from Task t left join t.taskStatus s where t.id = :id")
+    Optional<VersionStamp> findVersionStampById(Long id);
 
 }
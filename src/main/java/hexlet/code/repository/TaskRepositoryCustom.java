@@ -0,0 +1,22 @@
+package hexlet.code.repository;
+
+import hexlet.code.dto.TaskDTO.TaskDTO;
+import hexlet.code.dto.TaskDTO.TaskParamsDTO;
+import hexlet.code.model.Task;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Sort;
+import org.springframework.data.jpa.domain.Specification;
+
+import java.util.List;
+import java.util.stream.Stream;
+
+public interface TaskRepositoryCustom {
+
+    List<TaskDTO> findAllAsDTO(Specification<Task> specification, Pageable pageable);
+
+    Stream<TaskDTO> streamAllAsDTO(Specification<Task> specification, Sort sort);
+
+    Page<Long> searchIds(TaskParamsDTO params, Long taskStatusId, Pageable pageable);
+
+}
@@ -0,0 +1,136 @@
+package hexlet.code.repository;
+
+import hexlet.code.dto.TaskDTO.TaskDTO;
+import hexlet.code.dto.TaskDTO.TaskParamsDTO;
+import hexlet.code.model.Label;
+import hexlet.code.model.Task;
+import hexlet.code.model.TaskStatus;
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.PersistenceContext;
+import jakarta.persistence.Tuple;
+import jakarta.persistence.TypedQuery;
+import jakarta.persistence.criteria.JoinType;
+import org.hibernate.jpa.HibernateHints;
+import org.hibernate.query.criteria.HibernateCriteriaBuilder;
+import org.hibernate.search.engine.search.common.BooleanOperator;
+import org.hibernate.search.mapper.orm.Search;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageImpl;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Sort;
+import org.springframework.data.jpa.domain.Specification;
+import org.springframework.data.jpa.repository.query.QueryUtils;
+
+import java.time.LocalDate;
+import java.util.Arrays;
+import java.util.List;
+import java.util.stream.Stream;
+
+public class TaskRepositoryImpl implements TaskRepositoryCustom {
+
+    private static final String LABEL_IDS_SEPARATOR = ",";
+    private static final int STREAM_FETCH_SIZE = 500;
+
+    @PersistenceContext
+    private EntityManager entityManager;
+
+    @Override
+    public List<TaskDTO> findAllAsDTO(Specification<Task> specification, Pageable pageable) {
+        return createDTOQuery(specification, pageable.getSort())
+                .setFirstResult((int) pageable.getOffset())
+                .setMaxResults(pageable.getPageSize())
+                .getResultStream()
+                .map(TaskRepositoryImpl::toDTO)
+                .toList();
+    }
+
+    @Override
+    public Stream<TaskDTO> streamAllAsDTO(Specification<Task> specification, Sort sort) {
+        return createDTOQuery(specification, sort)
+                .setHint(HibernateHints.HINT_FETCH_SIZE, STREAM_FETCH_SIZE)
+                .setHint(HibernateHints.HINT_READ_ONLY, true)
+                .getResultStream()
+                .map(TaskRepositoryImpl::toDTO);
+    }
+
+    @Override
+    public Page<Long> searchIds(TaskParamsDTO params, Long taskStatusId, Pageable pageable) {
+        var result = Search.session(entityManager)
+                .search(Task.class)
+                .select(f -> f.id(Long.class))
+                .where((f, root) -> {
+                    root.add(f.simpleQueryString()
+                            .fields("name", "description")
+                            .matching(params.getQ())
+                            .defaultOperator(BooleanOperator.AND));
+                    if (params.getTitleCont() != null) {
+                        root.add(f.wildcard().field("name_keyword")
+                                .matching("*" + escapeWildcard(params.getTitleCont().toLowerCase()) + "*"));
+                    }
+                    if (params.getAssigneeId() != null) {
+                        root.add(f.match().field("assignee.id").matching(params.getAssigneeId()));
+                    }
+                    if (taskStatusId != null) {
+                        root.add(f.match().field("taskStatus.id").matching(taskStatusId));
+                    }
+                    if (params.getLabelId() != null) {
+                        root.add(f.match().field("labels.id").matching(params.getLabelId()));
+                    }
+                })
+                .fetch((int) pageable.getOffset(), pageable.getPageSize());
+        return new PageImpl<>(result.hits(), pageable, result.total().hitCount());
+    }
+
+    private TypedQuery<Tuple> createDTOQuery(Specification<Task> specification, Sort sort) {
+        var cb = (HibernateCriteriaBuilder) entityManager.getCriteriaBuilder();
+        var query = cb.createTupleQuery();
+        var root = query.from(Task.class);
+        var taskStatus = root.<Task, TaskStatus>join("taskStatus", JoinType.LEFT);
+        var labels = root.<Task, Label>join("labels", JoinType.LEFT);
+
+        var id = root.<Long>get("id");
+        var index = root.<Long>get("index");
+        var createdAt = root.<LocalDate>get("createdAt");
+        var assigneeId = root.get("assignee").<Long>get("id");
+        var name = root.<String>get("name");
+        var description = root.<String>get("description");
+        var slug = taskStatus.<String>get("slug");
+        var labelId = labels.<Long>get("id");
+        var labelIds = cb.listagg(cb.asc(labelId), labelId.as(String.class), LABEL_IDS_SEPARATOR);
+
+        query.multiselect(id, index, createdAt, assigneeId, name, description, slug, labelIds)
+                .where(specification.toPredicate(root, query, cb))
+                .groupBy(id, index, createdAt, assigneeId, name, description, slug)
+                .orderBy(QueryUtils.toOrders(sort, root, cb));
+
+        return entityManager.createQuery(query);
+    }
+
+    private static TaskDTO toDTO(Tuple tuple) {
+        var dto = new TaskDTO();
+        dto.setId(tuple.get(0, Long.class));
+        dto.setIndex(tuple.get(1, Long.class));
+        dto.setCreatedAt(tuple.get(2, LocalDate.class));
+        dto.setAssigneeId(tuple.get(3, Long.class));
+        dto.setTitle(tuple.get(4, String.class));
+        dto.setContent(tuple.get(5, String.class));
+        dto.setStatus(tuple.get(6, String.class));
+        dto.setTaskLabelIds(toLabelIds(tuple.get(7, String.class)));
+        return dto;
+    }
+
+    private static List<Long> toLabelIds(String labelIds) {
+        return labelIds == null
+                ? List.of()
+                : Arrays.stream(labelIds.split(LABEL_IDS_SEPARATOR))
+                .map(Long::valueOf)
+                .toList();
+    }
+
+    private static String escapeWildcard(String value) {
+        return value.replace("\\", "\\\\")
+                .replace("*", "\\*")
+                .replace("?", "\\?");
+    }
+
+}
@@ -1,14 +1,32 @@
 package hexlet.code.repository;
 
+import hexlet.code.dto.VersionStamp;
 import hexlet.code.model.TaskStatus;
+import jakarta.persistence.QueryHint;
+import org.hibernate.jpa.HibernateHints;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
 import org.springframework.stereotype.Repository;
 
+import java.util.Collection;
+import java.util.List;
 import java.util.Optional;
 
 @Repository
 public interface TaskStatusRepository extends JpaRepository<TaskStatus, Long> {
 
+    @QueryHints(@QueryHint(name = HibernateHints.HINT_CACHEABLE, value = "true"))
     Optional<TaskStatus> findBySlug(String slug);
 
+    List<TaskStatus> findBySlugIn(Collection<String> slugs);
+
+    @Query("select new hexlet.code.dto.VersionStamp(count(s), max(s.id), sum(s.version), "
+            + "max(s.updatedAt)) from TaskStatus s")
+    VersionStamp findVersionStamp();
+
+    @Query("select new hexlet.code.dto.VersionStamp(1L, s.id, s.version, s.updatedAt) "
+            + "from TaskStatus s where s.id = :id")
+    Optional<VersionStamp> findVersionStampById(Long id);
+
 }
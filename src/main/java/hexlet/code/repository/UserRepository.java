@@ -1,7 +1,10 @@
 package hexlet.code.repository;
 
+import hexlet.code.dto.VersionStamp;
 import hexlet.code.model.User;
+import org.springframework.cache.annotation.Cacheable;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
 import org.springframework.stereotype.Repository;
 
 import java.util.Optional;
@@ -11,4 +14,16 @@ public interface UserRepository extends JpaRepository<User, Long> {
 
     Optional<User> findByEmail(String email);
 
+    @Cacheable(cacheNames = "userIdsByEmail", unless = "#result == null")
+    @Query("select u.id from User u where u.email = :email")
+    Optional<Long> findIdByEmail(String email);
+
+    @Query("select new hexlet.code.dto.VersionStamp(count(u), max(u.id), sum(u.version), "
+            + "max(u.updatedAt)) from User u")
+    VersionStamp findVersionStamp();
+
+    @Query("select new hexlet.code.dto.VersionStamp(1L, u.id, u.version, u.updatedAt) "
+            + "from User u where u.id = :id")
+    Optional<VersionStamp> findVersionStampById(Long id);
+
 }
@@ -3,13 +3,14 @@ package hexlet.code.service;
 import hexlet.code.repository.UserRepository;
 import lombok.AllArgsConstructor;
 import org.springframework.security.core.userdetails.UserDetails;
+import org.springframework.security.core.userdetails.UserDetailsPasswordService;
 import org.springframework.security.core.userdetails.UsernameNotFoundException;
 import org.springframework.security.provisioning.UserDetailsManager;
 import org.springframework.stereotype.Service;
 
 @Service
 @AllArgsConstructor
-public class CustomUserDetailsService implements UserDetailsManager {
+public class CustomUserDetailsService implements UserDetailsManager, UserDetailsPasswordService {
 
     private final UserRepository userRepository;
 
@@ -44,4 +45,12 @@ public class CustomUserDetailsService implements UserDetailsManager {
                 .orElseThrow(() -> new UsernameNotFoundException("User not found"));
     }
 
+    @Override
+    public UserDetails updatePassword(UserDetails user, String newPassword) {
+        var storedUser = userRepository.findByEmail(user.getUsername())
+                .orElseThrow(() -> new UsernameNotFoundException("User not found"));
+        storedUser.setPassword(newPassword);
+        return userRepository.save(storedUser);
+    }
+
 }
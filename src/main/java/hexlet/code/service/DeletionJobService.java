@@ -0,0 +1,121 @@
+package hexlet.code.service;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import hexlet.code.component.DeletionJobProperties;
+import hexlet.code.dto.DeletionJobDTO;
+import hexlet.code.exception.ResourceNotFoundException;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.core.task.TaskExecutor;
+import org.springframework.core.task.TaskRejectedException;
+import org.springframework.stereotype.Service;
+
+import java.time.Instant;
+import java.util.UUID;
+import java.util.function.Consumer;
+import java.util.function.IntConsumer;
+import java.util.function.IntSupplier;
+
+@Service
+public class DeletionJobService {
+
+    private final DeletionJobProperties properties;
+    private final UserService userService;
+    private final LabelService labelService;
+    private final TaskService taskService;
+    private final TaskExecutor executor;
+    private final Cache<String, DeletionJobDTO> jobs;
+
+    public DeletionJobService(DeletionJobProperties properties, UserService userService,
+                              LabelService labelService, TaskService taskService,
+                              @Qualifier("deletionJobsExecutor") TaskExecutor executor) {
+        this.properties = properties;
+        this.userService = userService;
+        this.labelService = labelService;
+        this.taskService = taskService;
+        this.executor = executor;
+        this.jobs = Caffeine.newBuilder()
+                .expireAfterWrite(properties.getRetention())
+                .build();
+    }
+
+    public DeletionJobDTO submitUserDeletion(Long userId, boolean detachTasks) {
+        userService.findById(userId);
+        if (!detachTasks) {
+            userService.checkHasNoTasks(userId);
+        }
+        return submit("user", userId, progress -> deleteUser(userId, detachTasks, progress));
+    }
+
+    public DeletionJobDTO submitLabelDeletion(Long labelId, boolean detachTasks) {
+        labelService.findById(labelId);
+        if (!detachTasks) {
+            labelService.checkHasNoTasks(labelId);
+        }
+        return submit("label", labelId, progress -> deleteLabel(labelId, detachTasks, progress));
+    }
+
+    public DeletionJobDTO findById(String jobId) {
+        var job = jobs.getIfPresent(jobId);
+        if (job == null) {
+            throw new ResourceNotFoundException("Job with id: " + jobId + " not found.");
+        }
+        return job;
+    }
+
+    private void deleteUser(Long userId, boolean detachTasks, IntConsumer progress) {
+        if (detachTasks) {
+            detach(() -> taskService.unassignTasks(userId, properties.getChunkSize()), progress);
+        }
+        userService.deleteUser(userId);
+    }
+
+    private void deleteLabel(Long labelId, boolean detachTasks, IntConsumer progress) {
+        if (detachTasks) {
+            detach(() -> taskService.removeLabelFromTasks(labelId, properties.getChunkSize()), progress);
+        }
+        labelService.deleteLabel(labelId);
+    }
+
+    private void detach(IntSupplier detachChunk, IntConsumer progress) {
+        int detached;
+        do {
+            detached = detachChunk.getAsInt();
+            progress.accept(detached);
+        } while (detached == properties.getChunkSize());
+    }
+
+    private DeletionJobDTO submit(String resourceType, Long resourceId, Consumer<IntConsumer> delete) {
+        var job = new DeletionJobDTO();
+        job.setId(UUID.randomUUID().toString());
+        job.setResourceType(resourceType);
+        job.setResourceId(resourceId);
+        job.setStatus(DeletionJobDTO.PENDING);
+        job.setCreatedAt(Instant.now());
+        jobs.put(job.getId(), job);
+        try {
+            executor.execute(() -> run(job, delete));
+        } catch (TaskRejectedException e) {
+            jobs.invalidate(job.getId());
+            throw e;
+        }
+        return job;
+    }
+
+    private void run(DeletionJobDTO job, Consumer<IntConsumer> delete) {
+        job.setStatus(DeletionJobDTO.RUNNING);
+        try {
+            delete.accept(detached -> job.setProcessedTasks(job.getProcessedTasks() + detached));
+            finish(job, DeletionJobDTO.SUCCEEDED);
+        } catch (RuntimeException e) {
+            job.setError(e.getMessage());
+            finish(job, DeletionJobDTO.FAILED);
+        }
+    }
+
+    private void finish(DeletionJobDTO job, String status) {
+        job.setFinishedAt(Instant.now());
+        job.setStatus(status);
+    }
+
+}
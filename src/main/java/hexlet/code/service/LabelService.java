@@ -3,23 +3,30 @@ package hexlet.code.service;
 import hexlet.code.dto.LabelDTO.LabelCreateDTO;
 import hexlet.code.dto.LabelDTO.LabelDTO;
 import hexlet.code.dto.LabelDTO.LabelUpdateDTO;
+import hexlet.code.dto.VersionStamp;
 import hexlet.code.exception.MethodNotAllowedException;
 import hexlet.code.exception.ResourceNotFoundException;
 import hexlet.code.mapper.LabelMapper;
 import hexlet.code.repository.LabelRepository;
 import hexlet.code.repository.TaskRepository;
+import io.micrometer.core.annotation.Timed;
 import lombok.AllArgsConstructor;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
 
 import java.util.List;
 
 @Service
 @AllArgsConstructor
+@Timed(value = "app.service", histogram = true)
 public class LabelService {
 
+    private static final String AGGREGATE_TYPE = "label";
+
     private LabelRepository labelRepository;
     private LabelMapper labelMapper;
     private TaskRepository taskRepository;
+    private OutboxService outboxService;
 
     public List<LabelDTO> getAllLabels() {
         return labelRepository.findAll().stream()
@@ -27,10 +34,22 @@ public class LabelService {
                 .toList();
     }
 
+    public VersionStamp getAllLabelsVersion() {
+        return labelRepository.findVersionStamp();
+    }
+
+    public VersionStamp getLabelVersion(Long labelId) {
+        return labelRepository.findVersionStampById(labelId)
+                .orElseThrow(() -> new ResourceNotFoundException("Label with id: " + labelId + " not found."));
+    }
+
+    @Transactional
     public LabelDTO createLabel(LabelCreateDTO dto) {
         var label = labelMapper.map(dto);
         labelRepository.save(label);
-        return labelMapper.map(label);
+        var result = labelMapper.map(label);
+        outboxService.record(AGGREGATE_TYPE, result.getId(), OutboxService.CREATED, result);
+        return result;
     }
 
     public LabelDTO findById(Long labelId) {
@@ -39,21 +58,31 @@ public class LabelService {
         return labelMapper.map(label);
     }
 
+    @Transactional
     public LabelDTO updateLabel(Long labelId, LabelUpdateDTO data) {
         var label = labelRepository.findById(labelId)
                 .orElseThrow(() -> new ResourceNotFoundException("Label with id: " + labelId + " not found."));
         labelMapper.update(data, label);
         labelRepository.save(label);
-        return labelMapper.map(label);
+        var result = labelMapper.map(label);
+        outboxService.record(AGGREGATE_TYPE, result.getId(), OutboxService.UPDATED, result);
+        return result;
     }
 
+    @Transactional
     public void deleteLabel(Long labelId) {
-        var label = labelRepository.findById(labelId);
+        if (!labelRepository.existsById(labelId)) {
+            throw new ResourceNotFoundException("Label with id: " + labelId + " not found.");
+        }
+        checkHasNoTasks(labelId);
+        labelRepository.deleteById(labelId);
+        outboxService.record(AGGREGATE_TYPE, labelId, OutboxService.DELETED, null);
+    }
 
-        if (label.isPresent() && taskRepository.findByLabelsName(label.get().getName()).isPresent()) {
+    public void checkHasNoTasks(Long labelId) {
+        if (taskRepository.existsByLabelsId(labelId)) {
             throw new MethodNotAllowedException("Label still has task");
         }
-        labelRepository.deleteById(labelId);
     }
 
 }
@@ -0,0 +1,78 @@
+package hexlet.code.service;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import hexlet.code.component.OutboxSink;
+import hexlet.code.model.OutboxEvent;
+import hexlet.code.model.OutboxRelayState;
+import hexlet.code.repository.OutboxEventRepository;
+import hexlet.code.repository.OutboxRelayStateRepository;
+import lombok.AllArgsConstructor;
+import org.springframework.data.domain.Limit;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.io.UncheckedIOException;
+import java.time.Duration;
+import java.time.Instant;
+
+@Service
+@AllArgsConstructor
+public class OutboxService {
+
+    public static final String CREATED = "created";
+    public static final String UPDATED = "updated";
+    public static final String DELETED = "deleted";
+
+    private OutboxEventRepository outboxEventRepository;
+    private OutboxRelayStateRepository outboxRelayStateRepository;
+    private OutboxSink outboxSink;
+    private ObjectMapper om;
+
+    @Transactional(propagation = Propagation.MANDATORY)
+    public void record(String aggregateType, Long aggregateId, String eventType, Object payload) {
+        var event = new OutboxEvent();
+        event.setAggregateType(aggregateType);
+        event.setAggregateId(aggregateId);
+        event.setEventType(eventType);
+        try {
+            event.setPayload(payload == null ? null : om.writeValueAsString(payload));
+        } catch (JsonProcessingException e) {
+            throw new UncheckedIOException(e);
+        }
+        outboxEventRepository.save(event);
+    }
+
+    @Transactional
+    public int assignPositions(int batchSize) {
+        var relayState = outboxRelayStateRepository.findWithLockById(OutboxRelayState.ID).orElseThrow();
+        var events = outboxEventRepository.findByPublishedAtIsNullAndPositionIsNullOrderByCreatedAtAscIdAsc(
+                Limit.of(batchSize));
+        var position = relayState.getLastPosition();
+        for (var event : events) {
+            event.setPosition(++position);
+        }
+        relayState.setLastPosition(position);
+        return events.size();
+    }
+
+    @Transactional
+    public int publishBatch(int batchSize) {
+        outboxRelayStateRepository.findWithLockById(OutboxRelayState.ID).orElseThrow();
+        var events = outboxEventRepository.findByPublishedAtIsNullAndPositionIsNotNullOrderByPosition(
+                Limit.of(batchSize));
+        if (!events.isEmpty()) {
+            outboxSink.publish(events);
+            var publishedAt = Instant.now();
+            events.forEach(event -> event.setPublishedAt(publishedAt));
+        }
+        return events.size();
+    }
+
+    @Transactional
+    public int purgePublished(Duration retention) {
+        return outboxEventRepository.deletePublishedBefore(Instant.now().minus(retention));
+    }
+
+}
@@ -0,0 +1,241 @@
+package hexlet.code.service;
+
+import hexlet.code.component.TaskEventsProperties;
+import hexlet.code.component.TaskEventsProperties.Overflow;
+import hexlet.code.dto.TaskDTO.TaskEventDTO;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Tags;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.core.task.TaskExecutor;
+import org.springframework.core.task.TaskRejectedException;
+import org.springframework.http.MediaType;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.event.TransactionalEventListener;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+
+import java.io.IOException;
+import java.util.ArrayDeque;
+import java.util.Deque;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+
+@Service
+public class TaskEventService {
+
+    private static final String RESET = "reset";
+    private static final String EPOCH_SEPARATOR = "-";
+
+    private final TaskEventsProperties properties;
+    private final TaskExecutor taskExecutor;
+    private final Counter droppedEvents;
+    private final Counter evictedSubscribers;
+    private final Event[] history;
+    private final Set<Subscriber> subscribers = ConcurrentHashMap.newKeySet();
+    private final String epoch = String.valueOf(System.currentTimeMillis());
+    private long lastSequence;
+
+    public TaskEventService(TaskEventsProperties properties,
+                            @Qualifier("taskEventsExecutor") TaskExecutor taskExecutor,
+                            MeterRegistry meterRegistry) {
+        this.properties = properties;
+        this.taskExecutor = taskExecutor;
+        this.droppedEvents = meterRegistry.counter("app.task_events.dropped");
+        this.evictedSubscribers = meterRegistry.counter("app.task_events.evicted");
+        this.history = new Event[properties.getHistorySize()];
+        meterRegistry.gaugeCollectionSize("app.task_events.subscribers", Tags.empty(), subscribers);
+    }
+
+    public SseEmitter subscribe(String lastEventId) {
+        var emitter = new SseEmitter(properties.getTimeout().toMillis());
+        var subscriber = new Subscriber(emitter);
+        emitter.onCompletion(subscriber::close);
+        emitter.onTimeout(emitter::complete);
+        emitter.onError(e -> subscriber.close());
+
+        synchronized (this) {
+            if (lastEventId != null) {
+                replay(subscriber, lastEventId);
+            }
+            subscribers.add(subscriber);
+        }
+        subscriber.schedule();
+        return emitter;
+    }
+
+    public synchronized String getLastEventId() {
+        return toEventId(lastSequence);
+    }
+
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onTaskEvent(TaskEventDTO payload) {
+        synchronized (this) {
+            var sequence = ++lastSequence;
+            var event = new Event(sequence, toEventId(sequence), payload.getType(), payload);
+            history[(int) (sequence % history.length)] = event;
+            subscribers.forEach(subscriber -> subscriber.offer(event));
+        }
+        subscribers.forEach(Subscriber::schedule);
+    }
+
+    private void replay(Subscriber subscriber, String lastEventId) {
+        var resumeFrom = toSequence(lastEventId);
+        var oldestSequence = Math.max(1, lastSequence - history.length + 1);
+        if (resumeFrom == null || resumeFrom > lastSequence || resumeFrom + 1 < oldestSequence) {
+            var lastId = toEventId(lastSequence);
+            subscriber.add(new Event(lastSequence, lastId, RESET, lastId));
+            return;
+        }
+        for (var sequence = resumeFrom + 1; sequence <= lastSequence; sequence++) {
+            subscriber.add(history[(int) (sequence % history.length)]);
+        }
+    }
+
+    private String toEventId(long sequence) {
+        return epoch + EPOCH_SEPARATOR + sequence;
+    }
+
+    private Long toSequence(String eventId) {
+        var prefix = epoch + EPOCH_SEPARATOR;
+        if (!eventId.startsWith(prefix)) {
+            return null;
+        }
+        try {
+            return Long.valueOf(eventId.substring(prefix.length()));
+        } catch (NumberFormatException e) {
+            return null;
+        }
+    }
+
+    private record Event(long sequence, String id, String name, Object data) {
+        SseEmitter.SseEventBuilder toSse() {
+            return SseEmitter.event()
+                    .id(id)
+                    .name(name)
+                    .data(data, MediaType.APPLICATION_JSON);
+        }
+    }
+
+    private final class Subscriber {
+
+        private final SseEmitter emitter;
+        private final Deque<Event> queue = new ArrayDeque<>();
+        private boolean draining;
+        private boolean closed;
+        private boolean completePending;
+        private long sendingSince;
+
+        Subscriber(SseEmitter emitter) {
+            this.emitter = emitter;
+        }
+
+        synchronized void add(Event event) {
+            queue.addLast(event);
+        }
+
+        void offer(Event event) {
+            synchronized (this) {
+                if (closed) {
+                    return;
+                }
+                if (!isStalled()) {
+                    if (queue.size() < properties.getBufferSize()) {
+                        queue.addLast(event);
+                        return;
+                    }
+                    if (properties.getOverflow() != Overflow.DISCONNECT) {
+                        droppedEvents.increment();
+                        if (properties.getOverflow() == Overflow.DROP_OLDEST) {
+                            queue.pollFirst();
+                            queue.addLast(event);
+                        }
+                        return;
+                    }
+                }
+            }
+            evict();
+        }
+
+        void schedule() {
+            synchronized (this) {
+                if (closed || draining || queue.isEmpty()) {
+                    return;
+                }
+                draining = true;
+            }
+            try {
+                taskExecutor.execute(this::drain);
+            } catch (TaskRejectedException e) {
+                synchronized (this) {
+                    draining = false;
+                }
+                evict();
+            }
+        }
+
+        void close() {
+            synchronized (this) {
+                closed = true;
+                queue.clear();
+            }
+            subscribers.remove(this);
+        }
+
+        private void evict() {
+            boolean idle;
+            synchronized (this) {
+                if (closed) {
+                    return;
+                }
+                closed = true;
+                queue.clear();
+                completePending = draining;
+                idle = !draining;
+            }
+            subscribers.remove(this);
+            evictedSubscribers.increment();
+            if (idle) {
+                emitter.complete();
+            }
+        }
+
+        private boolean isStalled() {
+            return sendingSince != 0 && System.nanoTime() - sendingSince > properties.getSendTimeout().toNanos();
+        }
+
+        private void drain() {
+            while (true) {
+                Event event;
+                synchronized (this) {
+                    event = closed ? null : queue.pollFirst();
+                    if (event == null) {
+                        draining = false;
+                        if (!completePending) {
+                            return;
+                        }
+                        completePending = false;
+                    } else {
+                        sendingSince = System.nanoTime();
+                    }
+                }
+                if (event == null) {
+                    emitter.complete();
+                    return;
+                }
+                try {
+                    emitter.send(event.toSse());
+                } catch (IOException | IllegalStateException e) {
+                    close();
+                    emitter.completeWithError(e);
+                    return;
+                } finally {
+                    synchronized (this) {
+                        sendingSince = 0;
+                    }
+                }
+            }
+        }
+
+    }
+
+}
@@ -1,12 +1,18 @@
 package hexlet.code.service;
 
+import hexlet.code.dto.TaskDTO.TaskBulkUpdateDTO;
 import hexlet.code.dto.TaskDTO.TaskCreateDTO;
 import hexlet.code.dto.TaskDTO.TaskDTO;
+import hexlet.code.dto.TaskDTO.TaskEventDTO;
 import hexlet.code.dto.TaskDTO.TaskParamsDTO;
 import hexlet.code.dto.TaskDTO.TaskUpdateDTO;
+import hexlet.code.dto.VersionStamp;
+import hexlet.code.exception.BadRequestException;
+import hexlet.code.exception.PreconditionFailedException;
 import hexlet.code.exception.ResourceNotFoundException;
 import hexlet.code.mapper.TaskMapper;
 import hexlet.code.model.Label;
+import hexlet.code.model.Task;
 import hexlet.code.model.TaskStatus;
 import hexlet.code.model.User;
 import hexlet.code.repository.LabelRepository;
@@ -14,30 +20,82 @@ import hexlet.code.repository.TaskRepository;
 import hexlet.code.repository.TaskStatusRepository;
 import hexlet.code.repository.UserRepository;
 import hexlet.code.specification.TaskSpecification;
+import hexlet.code.util.OffsetPageRequest;
+import io.micrometer.core.annotation.Timed;
 import lombok.AllArgsConstructor;
+import org.openapitools.jackson.nullable.JsonNullable;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.data.domain.Limit;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageImpl;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Sort;
+import org.springframework.data.support.PageableExecutionUtils;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
 
+import java.util.Collection;
+import java.util.Collections;
+import java.util.HashSet;
 import java.util.List;
+import java.util.Map;
+import java.util.Objects;
 import java.util.Set;
+import java.util.function.Consumer;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
 
 @Service
 @AllArgsConstructor
+@Timed(value = "app.service", histogram = true)
 public class TaskService {
 
+    private static final int MAX_PAGE_SIZE = 1000;
+    private static final Sort ORDER_BY_ID = Sort.by("id");
+    private static final String AGGREGATE_TYPE = "task";
+
     private TaskRepository taskRepository;
     private TaskMapper taskMapper;
     private TaskStatusRepository taskStatusRepository;
     private UserRepository userRepository;
     private LabelRepository labelRepository;
     private TaskSpecification specBuilder;
+    private ApplicationEventPublisher eventPublisher;
+    private OutboxService outboxService;
 
-    public List<TaskDTO> getAllTasks(TaskParamsDTO paramsDTO) {
+    @Transactional(readOnly = true)
+    public Page<TaskDTO> getAllTasks(TaskParamsDTO paramsDTO) {
         var specification = specBuilder.build(paramsDTO);
-        return taskRepository.findAll(specification).stream()
-                .map(taskMapper::map)
-                .toList();
+        var pageSize = getPageSize(paramsDTO);
+
+        if (paramsDTO.getQ() != null) {
+            if (paramsDTO.getAfterId() != null) {
+                throw new BadRequestException("afterId cannot be combined with q, search results are ranked by "
+                        + "relevance. Use _start and _end to page through them.");
+            }
+            return searchTasks(paramsDTO, OffsetPageRequest.of(getStart(paramsDTO), pageSize, Sort.unsorted()));
+        }
+
+        if (paramsDTO.getAfterId() == null) {
+            var pageable = OffsetPageRequest.of(getStart(paramsDTO), pageSize, ORDER_BY_ID);
+            var tasks = taskRepository.findAllAsDTO(specification, pageable);
+            return PageableExecutionUtils.getPage(tasks, pageable, () -> taskRepository.count(specification));
+        }
+
+        var tasks = taskRepository.findAllAsDTO(specBuilder.buildWithCursor(paramsDTO),
+                OffsetPageRequest.of(0, pageSize, ORDER_BY_ID));
+        return new PageImpl<>(tasks, Pageable.unpaged(ORDER_BY_ID), taskRepository.count(specification));
+    }
+
+    @Transactional(readOnly = true)
+    public void exportTasks(TaskParamsDTO paramsDTO, Consumer<TaskDTO> action) {
+        try (var tasks = taskRepository.streamAllAsDTO(specBuilder.build(paramsDTO), ORDER_BY_ID)) {
+            tasks.forEach(action);
+        }
     }
 
+    @Transactional
     public TaskDTO createTask(TaskCreateDTO dto) {
         var task = taskMapper.map(dto);
 
@@ -60,7 +118,16 @@ public class TaskService {
         task.setLabels(labelSet);
 
         taskRepository.save(task);
-        return taskMapper.map(task);
+        return publish(TaskEventDTO.CREATED, taskMapper.map(task));
+    }
+
+    public VersionStamp getAllTasksVersion() {
+        return taskRepository.findVersionStamp();
+    }
+
+    public VersionStamp getTaskVersion(Long taskId) {
+        return taskRepository.findVersionStampById(taskId)
+                .orElseThrow(() -> new ResourceNotFoundException("Task with id: " + taskId + " not found."));
     }
 
     public TaskDTO findById(Long taskId) {
@@ -69,9 +136,13 @@ public class TaskService {
         return taskMapper.map(task);
     }
 
-    public TaskDTO updateTask(Long taskId, TaskUpdateDTO data) {
+    @Transactional
+    public TaskDTO updateTask(Long taskId, TaskUpdateDTO data, String ifMatch) {
         var task = taskRepository.findById(taskId)
                 .orElseThrow(() -> new ResourceNotFoundException("Task with id: " + taskId + " not found."));
+        if (ifMatch != null && !getTaskVersion(task).matches(ifMatch)) {
+            throw new PreconditionFailedException("Task with id: " + taskId + " has been modified.");
+        }
 
         taskMapper.update(data, task);
 
@@ -94,11 +165,212 @@ public class TaskService {
         task.setLabels(labelSet);
 
         taskRepository.save(task);
-        return taskMapper.map(task);
+        return publish(TaskEventDTO.UPDATED, taskMapper.map(task));
     }
 
+    @Transactional
     public void deleteTask(Long taskId) {
+        if (!taskRepository.existsById(taskId)) {
+            throw new ResourceNotFoundException("Task with id: " + taskId + " not found.");
+        }
         taskRepository.deleteById(taskId);
+        publishDeleted(taskId);
+    }
+
+    @Transactional
+    public List<TaskDTO> createTasks(List<TaskCreateDTO> dtos) {
+        var assignees = findAssignees(dtos.stream().map(TaskCreateDTO::getAssigneeId));
+        var statuses = findStatuses(dtos.stream().map(TaskCreateDTO::getStatus));
+        var labels = findLabels(dtos.stream().map(TaskCreateDTO::getTaskLabelIds));
+
+        var tasks = dtos.stream()
+                .map(dto -> {
+                    var task = taskMapper.map(dto);
+                    task.setAssignee(assignees.get(dto.getAssigneeId()));
+                    task.setTaskStatus(statuses.get(dto.getStatus()));
+                    task.setLabels(selectLabels(labels, dto.getTaskLabelIds()));
+                    return task;
+                })
+                .toList();
+
+        taskRepository.saveAll(tasks);
+        return tasks.stream()
+                .map(task -> publish(TaskEventDTO.CREATED, taskMapper.map(task)))
+                .toList();
+    }
+
+    @Transactional
+    public List<TaskDTO> updateTasks(List<TaskBulkUpdateDTO> dtos) {
+        var tasksById = findTasks(dtos.stream().map(TaskBulkUpdateDTO::getId).toList());
+        var assignees = findAssignees(dtos.stream()
+                .map(TaskBulkUpdateDTO::getAssigneeId)
+                .filter(Objects::nonNull)
+                .map(JsonNullable::get));
+        var statuses = findStatuses(dtos.stream()
+                .map(TaskBulkUpdateDTO::getStatus)
+                .filter(Objects::nonNull)
+                .map(JsonNullable::get));
+        var labels = findLabels(dtos.stream()
+                .map(TaskBulkUpdateDTO::getTaskLabelIds)
+                .filter(Objects::nonNull)
+                .map(JsonNullable::get));
+
+        var tasks = dtos.stream()
+                .map(dto -> {
+                    var task = tasksById.get(dto.getId());
+                    taskMapper.update(dto, task);
+                    task.setAssignee(dto.getAssigneeId() == null ? null : assignees.get(dto.getAssigneeId().get()));
+                    if (dto.getStatus() != null) {
+                        task.setTaskStatus(statuses.get(dto.getStatus().get()));
+                    }
+                    task.setLabels(dto.getTaskLabelIds() == null
+                            ? null
+                            : selectLabels(labels, dto.getTaskLabelIds().get()));
+                    return task;
+                })
+                .toList();
+
+        taskRepository.saveAll(tasks);
+        return tasks.stream()
+                .map(task -> publish(TaskEventDTO.UPDATED, taskMapper.map(task)))
+                .toList();
+    }
+
+    @Transactional
+    public void deleteTasks(List<Long> taskIds) {
+        var tasks = findTasks(taskIds);
+        taskRepository.deleteAll(tasks.values());
+        tasks.keySet().forEach(this::publishDeleted);
+    }
+
+    @Transactional
+    public int unassignTasks(Long assigneeId, int limit) {
+        var tasks = taskRepository.findByAssigneeIdOrderById(assigneeId, Limit.of(limit));
+        tasks.forEach(task -> {
+            task.setAssignee(null);
+            publish(TaskEventDTO.UPDATED, taskMapper.map(task));
+        });
+        return tasks.size();
+    }
+
+    @Transactional
+    public int removeLabelFromTasks(Long labelId, int limit) {
+        var tasks = taskRepository.findByLabelsIdOrderById(labelId, Limit.of(limit));
+        tasks.forEach(task -> {
+            task.getLabels().removeIf(label -> label.getId().equals(labelId));
+            publish(TaskEventDTO.UPDATED, taskMapper.map(task));
+        });
+        return tasks.size();
+    }
+
+    private TaskDTO publish(String type, TaskDTO task) {
+        outboxService.record(AGGREGATE_TYPE, task.getId(), type, task);
+        eventPublisher.publishEvent(new TaskEventDTO(type, task.getId(), task));
+        return task;
+    }
+
+    private void publishDeleted(Long taskId) {
+        outboxService.record(AGGREGATE_TYPE, taskId, OutboxService.DELETED, null);
+        eventPublisher.publishEvent(new TaskEventDTO(TaskEventDTO.DELETED, taskId, null));
+    }
+
+    private VersionStamp getTaskVersion(Task task) {
+        var status = task.getTaskStatus();
+        if (status == null) {
+            return new VersionStamp(task.getId(), task.getVersion(), task.getUpdatedAt(), null, null, null);
+        }
+        return new VersionStamp(task.getId(), task.getVersion(), task.getUpdatedAt(),
+                status.getId(), status.getVersion(), status.getUpdatedAt());
+    }
+
+    private Map<Long, Task> findTasks(List<Long> taskIds) {
+        var tasksById = taskRepository.findAllById(taskIds).stream()
+                .collect(Collectors.toMap(Task::getId, Function.identity()));
+        var missingIds = taskIds.stream()
+                .filter(id -> !tasksById.containsKey(id))
+                .distinct()
+                .toList();
+        if (!missingIds.isEmpty()) {
+            throw new ResourceNotFoundException("Tasks with ids: " + missingIds + " not found.");
+        }
+        return tasksById;
+    }
+
+    private Map<Long, User> findAssignees(Stream<Long> assigneeIds) {
+        var ids = assigneeIds.filter(Objects::nonNull).collect(Collectors.toSet());
+        if (ids.isEmpty()) {
+            return Collections.emptyMap();
+        }
+        return userRepository.findAllById(ids).stream()
+                .collect(Collectors.toMap(User::getId, Function.identity()));
+    }
+
+    private Map<String, TaskStatus> findStatuses(Stream<String> slugs) {
+        var slugSet = slugs.filter(Objects::nonNull).collect(Collectors.toSet());
+        if (slugSet.isEmpty()) {
+            return Collections.emptyMap();
+        }
+        return taskStatusRepository.findBySlugIn(slugSet).stream()
+                .collect(Collectors.toMap(TaskStatus::getSlug, Function.identity()));
+    }
+
+    private Map<Long, Label> findLabels(Stream<List<Long>> labelIds) {
+        var ids = labelIds.filter(Objects::nonNull)
+                .flatMap(Collection::stream)
+                .distinct()
+                .toList();
+        if (ids.isEmpty()) {
+            return Collections.emptyMap();
+        }
+        return labelRepository.findByIdIn(ids).orElse(Set.of()).stream()
+                .collect(Collectors.toMap(Label::getId, Function.identity()));
+    }
+
+    private Set<Label> selectLabels(Map<Long, Label> labels, List<Long> labelIds) {
+        if (labelIds == null) {
+            return null;
+        }
+        return labelIds.stream()
+                .map(labels::get)
+                .filter(Objects::nonNull)
+                .collect(Collectors.toCollection(HashSet::new));
+    }
+
+    private Page<TaskDTO> searchTasks(TaskParamsDTO paramsDTO, Pageable pageable) {
+        Long taskStatusId = null;
+        if (paramsDTO.getStatus() != null) {
+            var taskStatus = taskStatusRepository.findBySlug(paramsDTO.getStatus());
+            if (taskStatus.isEmpty()) {
+                return Page.empty(pageable);
+            }
+            taskStatusId = taskStatus.get().getId();
+        }
+
+        var ids = taskRepository.searchIds(paramsDTO, taskStatusId, pageable);
+        if (ids.isEmpty()) {
+            return new PageImpl<>(List.of(), pageable, ids.getTotalElements());
+        }
+
+        var tasksById = taskRepository.findAllAsDTO(specBuilder.withIdIn(ids.getContent()),
+                        OffsetPageRequest.of(0, ids.getNumberOfElements(), Sort.unsorted())).stream()
+                .collect(Collectors.toMap(TaskDTO::getId, Function.identity()));
+        var tasks = ids.stream()
+                .map(tasksById::get)
+                .filter(Objects::nonNull)
+                .toList();
+        return new PageImpl<>(tasks, pageable, ids.getTotalElements());
+    }
+
+    private int getStart(TaskParamsDTO paramsDTO) {
+        return paramsDTO.getStart() == null ? 0 : Math.max(paramsDTO.getStart(), 0);
+    }
+
+    public int getPageSize(TaskParamsDTO paramsDTO) {
+        if (paramsDTO.getEnd() == null) {
+            return MAX_PAGE_SIZE;
+        }
+        var start = paramsDTO.getStart() == null ? 0 : paramsDTO.getStart();
+        return Math.min(Math.max(paramsDTO.getEnd() - start, 1), MAX_PAGE_SIZE);
     }
 
 }
@@ -3,23 +3,30 @@ package hexlet.code.service;
 import hexlet.code.dto.TaskStatusDTO.TaskStatusCreateDTO;
 import hexlet.code.dto.TaskStatusDTO.TaskStatusDTO;
 import hexlet.code.dto.TaskStatusDTO.TaskStatusUpdateDTO;
+import hexlet.code.dto.VersionStamp;
 import hexlet.code.exception.MethodNotAllowedException;
 import hexlet.code.exception.ResourceNotFoundException;
 import hexlet.code.mapper.TaskStatusMapper;
 import hexlet.code.repository.TaskRepository;
 import hexlet.code.repository.TaskStatusRepository;
+import io.micrometer.core.annotation.Timed;
 import lombok.AllArgsConstructor;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
 
 import java.util.List;
 
 @Service
 @AllArgsConstructor
+@Timed(value = "app.service", histogram = true)
 public class TaskStatusService {
 
+    private static final String AGGREGATE_TYPE = "task_status";
+
     private TaskStatusRepository taskStatusRepository;
     private TaskStatusMapper taskStatusMapper;
     private TaskRepository taskRepository;
+    private OutboxService outboxService;
 
     public List<TaskStatusDTO> getAllStatuses() {
         return taskStatusRepository.findAll().stream()
@@ -27,10 +34,22 @@ public class TaskStatusService {
                 .toList();
     }
 
+    public VersionStamp getAllStatusesVersion() {
+        return taskStatusRepository.findVersionStamp();
+    }
+
+    public VersionStamp getStatusVersion(Long statusId) {
+        return taskStatusRepository.findVersionStampById(statusId)
+                .orElseThrow(() -> new ResourceNotFoundException("Status with id: " + statusId + " not found."));
+    }
+
+    @Transactional
     public TaskStatusDTO createStatus(TaskStatusCreateDTO dto) {
         var taskStatus = taskStatusMapper.map(dto);
         taskStatusRepository.save(taskStatus);
-        return taskStatusMapper.map(taskStatus);
+        var result = taskStatusMapper.map(taskStatus);
+        outboxService.record(AGGREGATE_TYPE, result.getId(), OutboxService.CREATED, result);
+        return result;
     }
 
     public TaskStatusDTO findById(Long statusId) {
@@ -39,21 +58,27 @@ public class TaskStatusService {
         return taskStatusMapper.map(taskStatus);
     }
 
+    @Transactional
     public TaskStatusDTO updateStatus(Long statusId, TaskStatusUpdateDTO data) {
         var taskStatus = taskStatusRepository.findById(statusId)
                 .orElseThrow(() -> new ResourceNotFoundException("Status with id: " + statusId + " not found."));
         taskStatusMapper.update(data, taskStatus);
         taskStatusRepository.save(taskStatus);
-        return taskStatusMapper.map(taskStatus);
+        var result = taskStatusMapper.map(taskStatus);
+        outboxService.record(AGGREGATE_TYPE, result.getId(), OutboxService.UPDATED, result);
+        return result;
     }
 
+    @Transactional
     public void deleteStatus(Long statusId) {
-        var taskStatus = taskStatusRepository.findById(statusId);
-
-        if (taskStatus.isPresent() && taskRepository.findByTaskStatusName(taskStatus.get().getName()).isPresent()) {
+        if (!taskStatusRepository.existsById(statusId)) {
+            throw new ResourceNotFoundException("Status with id: " + statusId + " not found.");
+        }
+        if (taskRepository.existsByTaskStatusId(statusId)) {
             throw new MethodNotAllowedException("TaskStatus still has task");
         }
         taskStatusRepository.deleteById(statusId);
+        outboxService.record(AGGREGATE_TYPE, statusId, OutboxService.DELETED, null);
     }
 
 }
@@ -2,26 +2,36 @@ package hexlet.code.service;
 
 import hexlet.code.dto.UserDTO.UserCreateDTO;
 import hexlet.code.dto.UserDTO.UserDTO;
+import hexlet.code.dto.UserDTO.UserEmailChangedDTO;
 import hexlet.code.dto.UserDTO.UserUpdateDTO;
+import hexlet.code.dto.VersionStamp;
 import hexlet.code.exception.MethodNotAllowedException;
 import hexlet.code.exception.ResourceNotFoundException;
 import hexlet.code.mapper.UserMapper;
 import hexlet.code.repository.TaskRepository;
 import hexlet.code.repository.UserRepository;
+import io.micrometer.core.annotation.Timed;
 import lombok.AllArgsConstructor;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.security.crypto.password.PasswordEncoder;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
 
 import java.util.List;
 
 @Service
 @AllArgsConstructor
+@Timed(value = "app.service", histogram = true)
 public class UserService {
 
+    private static final String AGGREGATE_TYPE = "user";
+
     private UserRepository userRepository;
     private UserMapper userMapper;
     private final PasswordEncoder passwordEncoder;
     private TaskRepository taskRepository;
+    private OutboxService outboxService;
+    private ApplicationEventPublisher eventPublisher;
 
     public List<UserDTO> getAllUsers() {
         return userRepository.findAll().stream()
@@ -29,12 +39,24 @@ public class UserService {
                 .toList();
     }
 
+    public VersionStamp getAllUsersVersion() {
+        return userRepository.findVersionStamp();
+    }
+
+    public VersionStamp getUserVersion(Long userId) {
+        return userRepository.findVersionStampById(userId)
+                .orElseThrow(() -> new ResourceNotFoundException("User with id: " + userId + " not found."));
+    }
+
+    @Transactional
     public UserDTO createUser(UserCreateDTO dto) {
         var user = userMapper.map(dto);
         var hashedPassword = passwordEncoder.encode(user.getPassword());
         user.setPassword(hashedPassword);
         userRepository.save(user);
-        return userMapper.map(user);
+        var result = userMapper.map(user);
+        outboxService.record(AGGREGATE_TYPE, result.getId(), OutboxService.CREATED, result);
+        return result;
     }
 
     public UserDTO findById(Long userId) {
@@ -44,25 +66,42 @@ public class UserService {
         return userMapper.map(user);
     }
 
+    @Transactional
     public UserDTO updateUser(Long userId, UserUpdateDTO data) {
         var user = userRepository.findById(userId)
                 .orElseThrow(() -> new ResourceNotFoundException("User with id: " + userId + " not found."));
         userMapper.update(data, user);
 
-        var hashedPassword = passwordEncoder.encode(user.getPassword());
-        user.setPassword(hashedPassword);
+        var password = data.getPassword();
+        if (password != null && password.isPresent() && password.get() != null) {
+            var hashedPassword = passwordEncoder.encode(password.get());
+            user.setPassword(hashedPassword);
+        }
 
         userRepository.save(user);
-        return userMapper.map(user);
+        var result = userMapper.map(user);
+        outboxService.record(AGGREGATE_TYPE, result.getId(), OutboxService.UPDATED, result);
+        if (data.getEmail() != null && data.getEmail().isPresent()) {
+            eventPublisher.publishEvent(new UserEmailChangedDTO(userId));
+        }
+        return result;
     }
 
+    @Transactional
     public void deleteUser(Long userId) {
-        var user = userRepository.findById(userId);
+        if (!userRepository.existsById(userId)) {
+            throw new ResourceNotFoundException("User with id: " + userId + " not found.");
+        }
+        checkHasNoTasks(userId);
+        userRepository.deleteById(userId);
+        outboxService.record(AGGREGATE_TYPE, userId, OutboxService.DELETED, null);
+        eventPublisher.publishEvent(new UserEmailChangedDTO(userId));
+    }
 
-        if (user.isPresent() && taskRepository.findByAssigneeEmail(user.get().getEmail()).isPresent()) {
+    public void checkHasNoTasks(Long userId) {
+        if (taskRepository.existsByAssigneeId(userId)) {
             throw new MethodNotAllowedException("User still has task");
         }
-        userRepository.deleteById(userId);
     }
 
 }
@@ -5,8 +5,13 @@ import hexlet.code.model.Task;
 import org.springframework.data.jpa.domain.Specification;
 import org.springframework.stereotype.Component;
 
+import java.util.Collection;
+
 @Component
 public class TaskSpecification {
+
+    private static final char ESCAPE = '\\';
+
     public Specification<Task> build(TaskParamsDTO params) {
         return withTitleCont(params.getTitleCont())
                 .and(withAssigneeId(params.getAssigneeId()))
@@ -14,10 +19,18 @@ public class TaskSpecification {
                 .and(withLabelId(params.getLabelId()));
     }
 
+    public Specification<Task> buildWithCursor(TaskParamsDTO params) {
+        return build(params).and(withIdGreaterThan(params.getAfterId()));
+    }
+
+    public Specification<Task> withIdIn(Collection<Long> ids) {
+        return (root, query, cb) -> root.get("id").in(ids);
+    }
+
     private Specification<Task> withTitleCont(String substring) {
         return (root, query, cb) -> substring == null
                 ? cb.conjunction()
-                : cb.like(cb.lower(root.get("name")), "%" + substring + "%");
+                : cb.like(cb.lower(root.get("name")), "%" + escapeLike(substring.toLowerCase()) + "%", ESCAPE);
     }
 
     private Specification<Task> withAssigneeId(Long assigneeId) {
@@ -38,4 +51,16 @@ public class TaskSpecification {
                 : cb.equal(root.get("labels").get("id"), labelId);
     }
 
+    private Specification<Task> withIdGreaterThan(Long afterId) {
+        return (root, query, cb) -> afterId == null
+                ? cb.conjunction()
+                : cb.greaterThan(root.get("id"), afterId);
+    }
+
+    private static String escapeLike(String value) {
+        return value.replace("\\", "\\\\")
+                .replace("%", "\\%")
+                .replace("_", "\\_");
+    }
+
 }
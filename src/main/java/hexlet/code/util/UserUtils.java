@@ -7,18 +7,42 @@ import hexlet.code.repository.UserRepository;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.security.core.context.SecurityContextHolder;
 import org.springframework.stereotype.Component;
+import org.springframework.web.context.request.RequestAttributes;
+import org.springframework.web.context.request.RequestContextHolder;
 
 @Component
 public class UserUtils {
+    private static final String CURRENT_USER_ID = UserUtils.class.getName() + ".CURRENT_USER_ID";
+
     @Autowired
     private UserRepository userRepository;
 
     public User getCurrentUser() {
+        var userId = getCurrentUserId();
+        if (userId == null) {
+            return null;
+        }
+        return userRepository.findById(userId).get();
+    }
+
+    public Long getCurrentUserId() {
         var authentication = SecurityContextHolder.getContext().getAuthentication();
         if (authentication == null || !authentication.isAuthenticated()) {
             return null;
         }
-        var email = authentication.getName();
-        return userRepository.findByEmail(email).get();
+        var attributes = RequestContextHolder.getRequestAttributes();
+        if (attributes != null
+                && attributes.getAttribute(CURRENT_USER_ID, RequestAttributes.SCOPE_REQUEST) instanceof Long userId) {
+            return userId;
+        }
+        var userId = userRepository.findIdByEmail(authentication.getName()).orElse(null);
+        if (attributes != null && userId != null) {
+            attributes.setAttribute(CURRENT_USER_ID, userId, RequestAttributes.SCOPE_REQUEST);
+        }
+        return userId;
+    }
+
+    public boolean isCurrentUser(Long userId) {
+        return userId != null && userId.equals(getCurrentUserId());
     }
 }
@@ -0,0 +1,46 @@
+CREATE TABLE users (
+    id BIGINT GENERATED BY DEFAULT AS IDENTITY PRIMARY KEY,
+    first_name VARCHAR(255),
+    last_name VARCHAR(255),
+    email VARCHAR(255),
+    password VARCHAR(255),
+    created_at DATE,
+    updated_at DATE,
+    CONSTRAINT uk_users_email UNIQUE (email)
+);
+
+CREATE TABLE task_status (
+    id BIGINT GENERATED BY DEFAULT AS IDENTITY PRIMARY KEY,
+    name VARCHAR(255),
+    slug VARCHAR(255),
+    created_at DATE,
+    CONSTRAINT uk_task_status_name UNIQUE (name),
+    CONSTRAINT uk_task_status_slug UNIQUE (slug)
+);
+
+CREATE TABLE labels (
+    id BIGINT GENERATED BY DEFAULT AS IDENTITY PRIMARY KEY,
+    name VARCHAR(1000),
+    created_at DATE,
+    CONSTRAINT uk_labels_name UNIQUE (name)
+);
+
+CREATE TABLE tasks (
+    id BIGINT GENERATED BY DEFAULT AS IDENTITY PRIMARY KEY,
+    name VARCHAR(255),
+    index BIGINT,
+    description VARCHAR(255),
+    created_at DATE,
+    task_status_id BIGINT,
+    assignee_id BIGINT,
+    CONSTRAINT fk_tasks_task_status FOREIGN KEY (task_status_id) REFERENCES task_status (id),
+    CONSTRAINT fk_tasks_assignee FOREIGN KEY (assignee_id) REFERENCES users (id)
+);
+
+CREATE TABLE tasks_labels (
+    task_id BIGINT NOT NULL,
+    labels_id BIGINT NOT NULL,
+    PRIMARY KEY (task_id, labels_id),
+    CONSTRAINT fk_tasks_labels_task FOREIGN KEY (task_id) REFERENCES tasks (id),
+    CONSTRAINT fk_tasks_labels_label FOREIGN KEY (labels_id) REFERENCES labels (id)
+);
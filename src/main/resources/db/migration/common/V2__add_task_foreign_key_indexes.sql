@@ -0,0 +1,5 @@
+CREATE INDEX IF NOT EXISTS idx_tasks_assignee_id ON tasks (assignee_id);
+
+CREATE INDEX IF NOT EXISTS idx_tasks_task_status_id ON tasks (task_status_id);
+
+CREATE INDEX IF NOT EXISTS idx_tasks_labels_labels_id ON tasks_labels (labels_id);
@@ -0,0 +1,15 @@
+ALTER TABLE users ADD COLUMN version BIGINT DEFAULT 0 NOT NULL;
+
+ALTER TABLE users ALTER COLUMN updated_at SET DATA TYPE TIMESTAMP WITH TIME ZONE;
+
+ALTER TABLE task_status ADD COLUMN version BIGINT DEFAULT 0 NOT NULL;
+
+ALTER TABLE task_status ADD COLUMN updated_at TIMESTAMP WITH TIME ZONE;
+
+ALTER TABLE labels ADD COLUMN version BIGINT DEFAULT 0 NOT NULL;
+
+ALTER TABLE labels ADD COLUMN updated_at TIMESTAMP WITH TIME ZONE;
+
+ALTER TABLE tasks ADD COLUMN version BIGINT DEFAULT 0 NOT NULL;
+
+ALTER TABLE tasks ADD COLUMN updated_at TIMESTAMP WITH TIME ZONE;
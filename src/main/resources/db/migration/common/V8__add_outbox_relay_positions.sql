@@ -0,0 +1,10 @@
+ALTER TABLE outbox_events ADD COLUMN relay_position BIGINT;
+
+CREATE UNIQUE INDEX IF NOT EXISTS uk_outbox_events_relay_position ON outbox_events (relay_position);
+
+CREATE TABLE outbox_relay_state (
+    id INTEGER PRIMARY KEY,
+    last_position BIGINT NOT NULL
+);
+
+INSERT INTO outbox_relay_state (id, last_position) VALUES (1, 0);
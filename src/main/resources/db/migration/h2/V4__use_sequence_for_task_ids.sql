@@ -0,0 +1,3 @@
+ALTER TABLE tasks ALTER COLUMN id DROP IDENTITY;
+
+CREATE SEQUENCE tasks_seq START WITH 1 INCREMENT BY 50;
@@ -0,0 +1,11 @@
+ALTER TABLE users ALTER COLUMN id DROP IDENTITY;
+
+CREATE SEQUENCE users_seq START WITH 1 INCREMENT BY 50;
+
+ALTER TABLE task_status ALTER COLUMN id DROP IDENTITY;
+
+CREATE SEQUENCE task_status_seq START WITH 1 INCREMENT BY 50;
+
+ALTER TABLE labels ALTER COLUMN id DROP IDENTITY;
+
+CREATE SEQUENCE labels_seq START WITH 1 INCREMENT BY 50;
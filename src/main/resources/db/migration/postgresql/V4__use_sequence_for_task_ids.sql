@@ -0,0 +1,5 @@
+ALTER TABLE tasks ALTER COLUMN id DROP IDENTITY IF EXISTS;
+
+CREATE SEQUENCE tasks_seq INCREMENT BY 50;
+
+SELECT setval('tasks_seq', COALESCE((SELECT MAX(id) FROM tasks), 0) + 1, false);
@@ -0,0 +1,17 @@
+ALTER TABLE users ALTER COLUMN id DROP IDENTITY IF EXISTS;
+
+CREATE SEQUENCE users_seq INCREMENT BY 50;
+
+SELECT setval('users_seq', COALESCE((SELECT MAX(id) FROM users), 0) + 1, false);
+
+ALTER TABLE task_status ALTER COLUMN id DROP IDENTITY IF EXISTS;
+
+CREATE SEQUENCE task_status_seq INCREMENT BY 50;
+
+SELECT setval('task_status_seq', COALESCE((SELECT MAX(id) FROM task_status), 0) + 1, false);
+
+ALTER TABLE labels ALTER COLUMN id DROP IDENTITY IF EXISTS;
+
+CREATE SEQUENCE labels_seq INCREMENT BY 50;
+
+SELECT setval('labels_seq', COALESCE((SELECT MAX(id) FROM labels), 0) + 1, false);
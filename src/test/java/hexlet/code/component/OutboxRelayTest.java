@@ -0,0 +1,170 @@
+package hexlet.code.component;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import hexlet.code.dto.LabelDTO.LabelCreateDTO;
+import hexlet.code.dto.LabelDTO.LabelUpdateDTO;
+import hexlet.code.model.OutboxEvent;
+import hexlet.code.repository.OutboxEventRepository;
+import hexlet.code.service.OutboxService;
+import hexlet.code.util.InMemoryOutboxSink;
+import net.datafaker.Faker;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.openapitools.jackson.nullable.JsonNullable;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.http.MediaType;
+import org.springframework.security.test.web.servlet.request.SecurityMockMvcRequestPostProcessors;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.transaction.IllegalTransactionStateException;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+
+import static net.javacrumbs.jsonunit.assertj.JsonAssertions.assertThatJson;
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.springframework.security.test.web.servlet.request.SecurityMockMvcRequestPostProcessors.jwt;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.delete;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.put;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+@SpringBootTest
+@AutoConfigureMockMvc
+class OutboxRelayTest {
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @Autowired
+    private Faker faker;
+
+    @Autowired
+    private ObjectMapper om;
+
+    @Autowired
+    private OutboxRelay outboxRelay;
+
+    @Autowired
+    private OutboxService outboxService;
+
+    @Autowired
+    private OutboxEventRepository outboxEventRepository;
+
+    @Autowired
+    private InMemoryOutboxSink outboxSink;
+
+    @Autowired
+    private TransactionTemplate transactionTemplate;
+
+    private SecurityMockMvcRequestPostProcessors.JwtRequestPostProcessor token;
+
+    @BeforeEach
+    public void setUp() {
+        token = jwt().jwt(builder -> builder.subject("hexlet@example.com"));
+    }
+
+    @Test
+    public void testRelayPublishesMutationsInOrder() throws Exception {
+        var createDTO = new LabelCreateDTO();
+        createDTO.setName(faker.lorem().characters(5, 20));
+
+        var body = mockMvc.perform(post("/api/labels").with(token)
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(om.writeValueAsString(createDTO)))
+                .andExpect(status().isCreated())
+                .andReturn()
+                .getResponse()
+                .getContentAsString();
+        var id = om.readTree(body).get("id").asLong();
+
+        var updateDTO = new LabelUpdateDTO();
+        updateDTO.setName(JsonNullable.of(faker.lorem().characters(5, 20)));
+
+        mockMvc.perform(put("/api/labels/{id}", id).with(token)
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(om.writeValueAsString(updateDTO)))
+                .andExpect(status().isOk());
+
+        mockMvc.perform(delete("/api/labels/{id}", id).with(token))
+                .andExpect(status().isNoContent());
+
+        outboxRelay.relay();
+
+        var events = outboxSink.getEvents("label", id);
+
+        assertThat(events).extracting(OutboxEvent::getEventType)
+                .containsExactly(OutboxService.CREATED, OutboxService.UPDATED, OutboxService.DELETED);
+        assertThat(events).extracting(OutboxEvent::getPosition).doesNotContainNull().isSorted();
+        assertThatJson(events.get(1).getPayload()).node("name").isEqualTo(updateDTO.getName().get());
+        assertThat(events.get(2).getPayload()).isNull();
+        assertThat(outboxEventRepository.countByPublishedAtIsNull()).isZero();
+    }
+
+    @Test
+    public void testLateCommitIsPublishedAfterEarlierCommits() throws Exception {
+        var lateId = faker.number().numberBetween(1_000_000L, 2_000_000L);
+        var earlyId = lateId + 1;
+        var recorded = new CountDownLatch(1);
+        var release = new CountDownLatch(1);
+        var executor = Executors.newSingleThreadExecutor();
+        var late = executor.submit(() -> transactionTemplate.executeWithoutResult(status -> {
+            outboxService.record("label", lateId, OutboxService.CREATED, null);
+            recorded.countDown();
+            try {
+                release.await();
+            } catch (InterruptedException e) {
+                throw new IllegalStateException(e);
+            }
+        }));
+        recorded.await(1, TimeUnit.MINUTES);
+
+        transactionTemplate.executeWithoutResult(status ->
+                outboxService.record("label", earlyId, OutboxService.CREATED, null));
+        outboxRelay.relay();
+
+        release.countDown();
+        late.get(1, TimeUnit.MINUTES);
+        executor.shutdown();
+        outboxRelay.relay();
+
+        var early = outboxSink.getEvents("label", earlyId).get(0);
+        var lateEvent = outboxSink.getEvents("label", lateId).get(0);
+
+        assertThat(lateEvent.getId()).isLessThan(early.getId());
+        assertThat(lateEvent.getPosition()).isGreaterThan(early.getPosition());
+    }
+
+    @Test
+    public void testRetriedBatchKeepsItsPositions() {
+        var aggregateId = faker.number().numberBetween(2_000_000L, 3_000_000L);
+        transactionTemplate.executeWithoutResult(status ->
+                outboxService.record("label", aggregateId, OutboxService.CREATED, null));
+
+        outboxSink.rejectNextBatch();
+        assertThatThrownBy(() -> outboxRelay.relay()).isInstanceOf(IllegalStateException.class);
+
+        var rejected = outboxSink.getRejected("label", aggregateId);
+        assertThat(rejected).hasSize(1);
+        var stored = outboxEventRepository.findById(rejected.get(0).getId()).orElseThrow();
+        assertThat(stored.getPublishedAt()).isNull();
+        assertThat(stored.getPosition()).isNotNull().isEqualTo(rejected.get(0).getPosition());
+
+        outboxRelay.relay();
+
+        var published = outboxSink.getEvents("label", aggregateId);
+        assertThat(published).hasSize(1);
+        assertThat(published.get(0).getPosition()).isEqualTo(stored.getPosition());
+    }
+
+    @Test
+    public void testRecordRequiresTransaction() {
+        assertThatThrownBy(() -> outboxService.record("label", 1L, OutboxService.CREATED, null))
+                .isInstanceOf(IllegalTransactionStateException.class);
+    }
+
+}
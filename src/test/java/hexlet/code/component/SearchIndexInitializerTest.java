@@ -0,0 +1,62 @@
+package hexlet.code.component;
+
+import hexlet.code.model.Task;
+import hexlet.code.repository.TaskRepository;
+import hexlet.code.util.ModelGenerator;
+import jakarta.persistence.EntityManagerFactory;
+import org.hibernate.search.mapper.orm.Search;
+import org.instancio.Instancio;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@SpringBootTest
+class SearchIndexInitializerTest {
+
+    @Autowired
+    private SearchIndexInitializer searchIndexInitializer;
+
+    @Autowired
+    private TaskRepository taskRepository;
+
+    @Autowired
+    private ModelGenerator modelGenerator;
+
+    @Autowired
+    private EntityManagerFactory entityManagerFactory;
+
+    @AfterEach
+    public void cleanUp() {
+        taskRepository.deleteAll();
+    }
+
+    @Test
+    public void testRebuildsOutdatedIndex() throws Exception {
+        taskRepository.saveAll(Instancio.ofList(modelGenerator.getTaskModel()).size(3).create());
+        var workspace = Search.mapping(entityManagerFactory).scope(Task.class).workspace();
+        workspace.purge();
+        workspace.refresh();
+        assertThat(countIndexed()).isZero();
+
+        searchIndexInitializer.run(null);
+
+        var deadline = System.currentTimeMillis() + 10000;
+        while (countIndexed() < 3 && System.currentTimeMillis() < deadline) {
+            Thread.sleep(50);
+        }
+        assertThat(countIndexed()).isEqualTo(3);
+    }
+
+    private long countIndexed() {
+        try (var entityManager = entityManagerFactory.createEntityManager()) {
+            return Search.session(entityManager)
+                    .search(Task.class)
+                    .where(f -> f.matchAll())
+                    .fetchTotalHitCount();
+        }
+    }
+
+}
@@ -0,0 +1,101 @@
+package hexlet.code.component;
+
+import io.sentry.CustomSamplingContext;
+import io.sentry.SamplingContext;
+import io.sentry.TransactionContext;
+import org.junit.jupiter.api.Test;
+import org.springframework.boot.context.properties.bind.Binder;
+import org.springframework.boot.context.properties.bind.PropertySourcesPlaceholdersResolver;
+import org.springframework.boot.context.properties.source.ConfigurationPropertySources;
+import org.springframework.boot.env.YamlPropertySourceLoader;
+import org.springframework.core.io.ClassPathResource;
+import org.springframework.mock.web.MockHttpServletRequest;
+
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class SentryTracesSamplerTest {
+
+    @Test
+    public void testFirstMatchingRuleWins() {
+        var sampler = new SentryTracesSampler(properties(
+                rule("GET", "/api/tasks", 0.01),
+                rule(null, "/api/**", 0.2),
+                rule("GET", "/api/tasks", 0.5)));
+
+        assertThat(sampler.sample(requestContext("GET", "/api/tasks"))).isEqualTo(0.01);
+        assertThat(sampler.sample(requestContext("POST", "/api/tasks"))).isEqualTo(0.2);
+    }
+
+    @Test
+    public void testRuleMatchesMethodIgnoringCase() {
+        var sampler = new SentryTracesSampler(properties(rule("get", "/api/*", 0.02)));
+
+        assertThat(sampler.sample(requestContext("GET", "/api/labels"))).isEqualTo(0.02);
+        assertThat(sampler.sample(requestContext("DELETE", "/api/labels"))).isEqualTo(0.1);
+    }
+
+    @Test
+    public void testUnmatchedRequestUsesDefaultRate() {
+        var sampler = new SentryTracesSampler(properties(rule(null, "/assets/**", 0.0)));
+
+        assertThat(sampler.sample(requestContext("GET", "/welcome"))).isEqualTo(0.1);
+        assertThat(sampler.sample(new SamplingContext(new TransactionContext("job", "task"), null)))
+                .isEqualTo(0.1);
+    }
+
+    @Test
+    public void testParentDecisionIsInherited() {
+        var sampler = new SentryTracesSampler(properties(rule(null, "/assets/**", 0.0)));
+
+        assertThat(sampler.sample(requestContext("GET", "/assets/app.js", true))).isEqualTo(1.0);
+        assertThat(sampler.sample(requestContext("GET", "/api/tasks", false))).isEqualTo(0.0);
+    }
+
+    @Test
+    public void testProductionRules() throws Exception {
+        var sources = new YamlPropertySourceLoader()
+                .load("prod", new ClassPathResource("application-prod.yml"));
+        var properties = new Binder(ConfigurationPropertySources.from(sources),
+                new PropertySourcesPlaceholdersResolver(sources))
+                .bind("sentry-sampling", SentrySamplingProperties.class)
+                .get();
+        var sampler = new SentryTracesSampler(properties);
+
+        assertThat(sampler.sample(requestContext("GET", "/assets/index.js"))).isEqualTo(0.0);
+        assertThat(sampler.sample(requestContext("GET", "/api/tasks"))).isEqualTo(0.01);
+        assertThat(sampler.sample(requestContext("GET", "/api/labels"))).isEqualTo(0.02);
+        assertThat(sampler.sample(requestContext("GET", "/api/tasks/1"))).isEqualTo(0.02);
+        assertThat(sampler.sample(requestContext("POST", "/api/login"))).isEqualTo(0.05);
+        assertThat(sampler.sample(requestContext("PUT", "/api/tasks/1"))).isEqualTo(0.2);
+        assertThat(sampler.sample(requestContext("GET", "/welcome"))).isEqualTo(0.1);
+    }
+
+    private static SentrySamplingProperties properties(SentrySamplingProperties.Rule... rules) {
+        var properties = new SentrySamplingProperties();
+        properties.setRules(List.of(rules));
+        return properties;
+    }
+
+    private static SentrySamplingProperties.Rule rule(String method, String path, double rate) {
+        var rule = new SentrySamplingProperties.Rule();
+        rule.setMethod(method);
+        rule.setPath(path);
+        rule.setRate(rate);
+        return rule;
+    }
+
+    private static SamplingContext requestContext(String method, String path) {
+        return requestContext(method, path, null);
+    }
+
+    private static SamplingContext requestContext(String method, String path, Boolean parentSampled) {
+        var transactionContext = new TransactionContext(method + " " + path, "http.server");
+        transactionContext.setParentSampled(parentSampled);
+        var customContext = new CustomSamplingContext();
+        customContext.set("request", new MockHttpServletRequest(method, path));
+        return new SamplingContext(transactionContext, customContext);
+    }
+
+}
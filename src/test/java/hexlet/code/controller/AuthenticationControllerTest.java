@@ -2,14 +2,20 @@ package hexlet.code.controller;
 
 import com.fasterxml.jackson.databind.ObjectMapper;
 import hexlet.code.dto.AuthRequest;
+import hexlet.code.repository.UserRepository;
+import hexlet.code.util.ModelGenerator;
+import org.instancio.Instancio;
 import org.junit.jupiter.api.Test;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
 import org.springframework.boot.test.context.SpringBootTest;
 import org.springframework.http.MediaType;
+import org.springframework.security.crypto.bcrypt.BCryptPasswordEncoder;
+import org.springframework.security.crypto.password.PasswordEncoder;
 import org.springframework.test.web.servlet.MockMvc;
 
 
+import static org.assertj.core.api.Assertions.assertThat;
 import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
 import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
 
@@ -23,6 +29,15 @@ class AuthenticationControllerTest {
     @Autowired
     private ObjectMapper om;
 
+    @Autowired
+    private UserRepository userRepository;
+
+    @Autowired
+    private ModelGenerator modelGenerator;
+
+    @Autowired
+    private PasswordEncoder passwordEncoder;
+
     @Test
     public void createTest() throws Exception {
         var data = new AuthRequest();
@@ -51,4 +66,29 @@ class AuthenticationControllerTest {
                 .andExpect(status().isUnauthorized());
     }
 
+    @Test
+    public void createTestUpgradesLegacyHash() throws Exception {
+        var user = Instancio.of(modelGenerator.getUserModel()).create();
+        user.setPassword(new BCryptPasswordEncoder(4).encode("qwerty"));
+        userRepository.save(user);
+
+        var data = new AuthRequest();
+        data.setUsername(user.getEmail());
+        data.setPassword("qwerty");
+
+        var request = post("/api/login")
+                .contentType(MediaType.APPLICATION_JSON)
+                .content(om.writeValueAsString(data));
+
+        mockMvc.perform(request)
+                .andExpect(status().isOk());
+
+        var storedPassword = userRepository.findById(user.getId()).orElseThrow().getPassword();
+        userRepository.deleteById(user.getId());
+
+        assertThat(storedPassword).startsWith("{bcrypt}");
+        assertThat(passwordEncoder.matches("qwerty", storedPassword)).isTrue();
+        assertThat(passwordEncoder.upgradeEncoding(storedPassword)).isFalse();
+    }
+
 }
@@ -1,15 +1,18 @@
 package hexlet.code.controller;
 
 
+import com.fasterxml.jackson.databind.JsonNode;
 import com.fasterxml.jackson.databind.ObjectMapper;
 import hexlet.code.dto.LabelDTO.LabelCreateDTO;
 import hexlet.code.dto.LabelDTO.LabelUpdateDTO;
 import hexlet.code.model.Label;
+import hexlet.code.model.Task;
 import hexlet.code.repository.LabelRepository;
 import hexlet.code.repository.TaskRepository;
 import hexlet.code.util.ModelGenerator;
 import net.datafaker.Faker;
 import org.instancio.Instancio;
+import org.instancio.Select;
 import org.junit.jupiter.api.AfterEach;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
@@ -17,6 +20,7 @@ import org.openapitools.jackson.nullable.JsonNullable;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
 import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.MediaType;
 import org.springframework.security.test.web.servlet.request.SecurityMockMvcRequestPostProcessors;
 import org.springframework.test.web.servlet.MockMvc;
@@ -28,6 +32,8 @@ import static org.springframework.test.web.servlet.request.MockMvcRequestBuilder
 import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
 import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.delete;
 import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.header;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
 import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
 
 @SpringBootTest
@@ -83,6 +89,24 @@ class LabelControllerTest {
         assertThatJson(body).isArray();
     }
 
+    @Test
+    public void testIndexNotModified() throws Exception {
+        var eTag = mockMvc.perform(get("/api/labels").with(token))
+                .andExpect(status().isOk())
+                .andReturn()
+                .getResponse()
+                .getHeader(HttpHeaders.ETAG);
+
+        mockMvc.perform(get("/api/labels").with(token).header(HttpHeaders.IF_NONE_MATCH, eTag))
+                .andExpect(status().isNotModified());
+
+        testLabel.setName(faker.lorem().characters(5, 20));
+        labelRepository.save(testLabel);
+
+        mockMvc.perform(get("/api/labels").with(token).header(HttpHeaders.IF_NONE_MATCH, eTag))
+                .andExpect(status().isOk());
+    }
+
     @Test
     public void testShow() throws Exception {
         var request = get("/api/labels/{id}", testLabel.getId()).with(token);
@@ -100,6 +124,26 @@ class LabelControllerTest {
         );
     }
 
+    @Test
+    public void testShowNotModified() throws Exception {
+        var response = mockMvc.perform(get("/api/labels/{id}", testLabel.getId()).with(token))
+                .andExpect(status().isOk())
+                .andExpect(header().exists(HttpHeaders.LAST_MODIFIED))
+                .andReturn()
+                .getResponse();
+
+        mockMvc.perform(get("/api/labels/{id}", testLabel.getId()).with(token)
+                        .header(HttpHeaders.IF_MODIFIED_SINCE, response.getHeader(HttpHeaders.LAST_MODIFIED)))
+                .andExpect(status().isNotModified());
+
+        testLabel.setName(faker.lorem().characters(5, 20));
+        labelRepository.save(testLabel);
+
+        mockMvc.perform(get("/api/labels/{id}", testLabel.getId()).with(token)
+                        .header(HttpHeaders.IF_NONE_MATCH, response.getHeader(HttpHeaders.ETAG)))
+                .andExpect(status().isOk());
+    }
+
     @Test
     public void testUpdate() throws Exception {
         var data = new LabelUpdateDTO();
@@ -158,6 +202,86 @@ class LabelControllerTest {
         assertThat(testLabel).isNull();
     }
 
+    @Test
+    public void testDestroyAsync() throws Exception {
+        for (var i = 0; i < 3; i++) {
+            var task = Instancio.of(modelGenerator.getTaskModel())
+                    .set(Select.field(Task::getName), "task_" + i)
+                    .create();
+            task.getLabels().add(testLabel);
+            taskRepository.save(task);
+        }
+
+        var location = mockMvc.perform(delete("/api/labels/{id}", testLabel.getId()).with(token)
+                        .param("async", "true")
+                        .param("detachTasks", "true"))
+                .andExpect(status().isAccepted())
+                .andExpect(jsonPath("$.resourceType").value("label"))
+                .andReturn()
+                .getResponse()
+                .getHeader(HttpHeaders.LOCATION);
+
+        var job = awaitJob(location);
+
+        assertThat(job.get("status").asText()).isEqualTo("succeeded");
+        assertThat(job.get("processedTasks").asLong()).isEqualTo(3);
+        assertThat(labelRepository.findById(testLabel.getId())).isEmpty();
+        assertThat(taskRepository.existsByLabelsId(testLabel.getId())).isFalse();
+        assertThat(taskRepository.count()).isEqualTo(3);
+        testLabel = null;
+    }
+
+    @Test
+    public void testDestroyAsyncButHasTask() throws Exception {
+        var task = Instancio.of(modelGenerator.getTaskModel()).create();
+        task.getLabels().add(testLabel);
+        taskRepository.save(task);
+
+        mockMvc.perform(delete("/api/labels/{id}", testLabel.getId()).with(token)
+                        .param("async", "true"))
+                .andExpect(status().isMethodNotAllowed());
+
+        assertThat(labelRepository.findById(testLabel.getId())).isPresent();
+        assertThat(taskRepository.existsByLabelsId(testLabel.getId())).isTrue();
+    }
+
+    @Test
+    public void testDestroyDetachingTasksRunsAsJob() throws Exception {
+        var tasks = Instancio.ofList(modelGenerator.getTaskModel()).size(2).create();
+        tasks.forEach(task -> task.getLabels().add(testLabel));
+        taskRepository.saveAll(tasks);
+
+        var location = mockMvc.perform(delete("/api/labels/{id}", testLabel.getId()).with(token)
+                        .param("detachTasks", "true"))
+                .andExpect(status().isAccepted())
+                .andExpect(jsonPath("$.resourceType").value("label"))
+                .andReturn()
+                .getResponse()
+                .getHeader(HttpHeaders.LOCATION);
+
+        var job = awaitJob(location);
+
+        assertThat(job.get("status").asText()).isEqualTo("succeeded");
+        assertThat(job.get("processedTasks").asLong()).isEqualTo(2);
+
+        assertThat(labelRepository.findById(testLabel.getId())).isEmpty();
+        assertThat(taskRepository.existsByLabelsId(testLabel.getId())).isFalse();
+        assertThat(taskRepository.count()).isEqualTo(2);
+        testLabel = null;
+    }
+
+    @Test
+    public void testShowUnknownJob() throws Exception {
+        mockMvc.perform(get("/api/jobs/{id}", "unknown").with(token))
+                .andExpect(status().isNotFound());
+    }
+
+    @Test
+    public void testDestroyNotFound() throws Exception {
+        mockMvc.perform(delete("/api/labels/{id}", Long.MAX_VALUE).with(token))
+                .andExpect(status().isNotFound());
+    }
+
     @Test
     public void testDestroyWithoutAuth() throws Exception {
         var request = delete("/api/labels/{id}", testLabel.getId());
@@ -178,4 +302,32 @@ class LabelControllerTest {
                 .andExpect(status().isMethodNotAllowed());
     }
 
+    @Test
+    public void testDestroyButHasManyTasks() throws Exception {
+        var tasks = Instancio.ofList(modelGenerator.getTaskModel()).size(2).create();
+        tasks.forEach(task -> task.getLabels().add(testLabel));
+        taskRepository.saveAll(tasks);
+
+        mockMvc.perform(delete("/api/labels/{id}", testLabel.getId()).with(token))
+                .andExpect(status().isMethodNotAllowed());
+    }
+
+    private JsonNode awaitJob(String location) throws Exception {
+        var deadline = System.currentTimeMillis() + 10000;
+        while (true) {
+            var body = mockMvc.perform(get(location).with(token))
+                    .andExpect(status().isOk())
+                    .andReturn()
+                    .getResponse()
+                    .getContentAsString();
+            var job = om.readTree(body);
+            var jobStatus = job.get("status").asText();
+            if (!jobStatus.equals("pending") && !jobStatus.equals("running")
+                    || System.currentTimeMillis() > deadline) {
+                return job;
+            }
+            Thread.sleep(50);
+        }
+    }
+
 }
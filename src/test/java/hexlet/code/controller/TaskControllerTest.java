@@ -1,20 +1,26 @@
 package hexlet.code.controller;
 
 import com.fasterxml.jackson.databind.ObjectMapper;
+import hexlet.code.dto.TaskDTO.TaskBulkUpdateDTO;
 import hexlet.code.dto.TaskDTO.TaskCreateDTO;
 import hexlet.code.dto.TaskDTO.TaskUpdateDTO;
 import hexlet.code.dto.TaskStatusDTO.TaskStatusCreateDTO;
 import hexlet.code.mapper.TaskStatusMapper;
 import hexlet.code.model.Label;
 import hexlet.code.model.Task;
+import hexlet.code.model.TaskStatus;
 import hexlet.code.repository.LabelRepository;
+import hexlet.code.repository.OutboxEventRepository;
 import hexlet.code.repository.TaskRepository;
 import hexlet.code.repository.TaskStatusRepository;
 import hexlet.code.repository.UserRepository;
 import hexlet.code.util.ModelGenerator;
+import jakarta.persistence.EntityManagerFactory;
 import net.datafaker.Faker;
 import net.javacrumbs.jsonunit.core.Option;
+import org.hibernate.SessionFactory;
 import org.instancio.Instancio;
+import org.instancio.Select;
 import org.junit.jupiter.api.AfterEach;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
@@ -22,21 +28,33 @@ import org.openapitools.jackson.nullable.JsonNullable;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
 import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
 import org.springframework.http.MediaType;
 import org.springframework.security.test.web.servlet.request.SecurityMockMvcRequestPostProcessors;
 import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.MvcResult;
 import org.springframework.transaction.annotation.Transactional;
 
+import java.util.ArrayList;
 import java.util.HashMap;
+import java.util.HashSet;
 import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
 
 import static net.javacrumbs.jsonunit.assertj.JsonAssertions.assertThatJson;
 import static org.assertj.core.api.Assertions.assertThat;
+import static org.hamcrest.Matchers.not;
 import static org.springframework.security.test.web.servlet.request.SecurityMockMvcRequestPostProcessors.jwt;
 import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.put;
 import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.delete;
 import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
 import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.header;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
 import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
 
 
@@ -71,6 +89,12 @@ class TaskControllerTest {
     @Autowired
     private ModelGenerator modelGenerator;
 
+    @Autowired
+    private OutboxEventRepository outboxEventRepository;
+
+    @Autowired
+    private EntityManagerFactory entityManagerFactory;
+
     private SecurityMockMvcRequestPostProcessors.JwtRequestPostProcessor token;
 
     private Task testTask;
@@ -123,6 +147,28 @@ class TaskControllerTest {
         assertThatJson(body).isArray();
     }
 
+    @Test
+    public void testIndexNotModified() throws Exception {
+        testTask = generateTask();
+        taskRepository.save(testTask);
+
+        var eTag = mockMvc.perform(get("/api/tasks").with(token))
+                .andExpect(status().isOk())
+                .andReturn()
+                .getResponse()
+                .getHeader(HttpHeaders.ETAG);
+
+        mockMvc.perform(get("/api/tasks").with(token).header(HttpHeaders.IF_NONE_MATCH, eTag))
+                .andExpect(status().isNotModified());
+
+        var taskStatus = testTask.getTaskStatus();
+        taskStatus.setSlug(faker.internet().slug());
+        taskStatusRepository.save(taskStatus);
+
+        mockMvc.perform(get("/api/tasks").with(token).header(HttpHeaders.IF_NONE_MATCH, eTag))
+                .andExpect(status().isOk());
+    }
+
     @Test
     public void testIndexWithFilter() throws Exception {
         var task = generateTask();
@@ -162,6 +208,208 @@ class TaskControllerTest {
                 .contains(om.writeValueAsString(data));
     }
 
+    @Test
+    public void testIndexWithTitleFilterIgnoresCase() throws Exception {
+        var task = Instancio.of(modelGenerator.getTaskModel())
+                .set(Select.field(Task::getName), "Fix login_page")
+                .create();
+        var otherTask = Instancio.of(modelGenerator.getTaskModel())
+                .set(Select.field(Task::getName), "Fix loginXpage")
+                .create();
+        taskRepository.saveAll(List.of(task, otherTask));
+
+        var request = get("/api/tasks?titleCont=LOGIN_").with(token);
+        var result = mockMvc.perform(request)
+                .andExpect(status().isOk())
+                .andReturn();
+
+        var body = result.getResponse().getContentAsString();
+
+        assertThatJson(body).isArray().hasSize(1);
+        assertThatJson(body).node("[0].id").isEqualTo(task.getId());
+    }
+
+    @Test
+    public void testIndexWithFullTextSearch() throws Exception {
+        var bestMatch = Instancio.of(modelGenerator.getTaskModel())
+                .set(Select.field(Task::getName), "Deploy release")
+                .set(Select.field(Task::getDescription), "Deploy the release after the deploy checklist")
+                .create();
+        var weakMatch = Instancio.of(modelGenerator.getTaskModel())
+                .set(Select.field(Task::getName), "Write notes")
+                .set(Select.field(Task::getDescription), "Mention the deploy date")
+                .create();
+        var noMatch = Instancio.of(modelGenerator.getTaskModel())
+                .set(Select.field(Task::getName), "Review code")
+                .set(Select.field(Task::getDescription), "Nothing to ship yet")
+                .create();
+        taskRepository.saveAll(List.of(weakMatch, noMatch, bestMatch));
+
+        var request = get("/api/tasks?q=deploy").with(token);
+        var result = mockMvc.perform(request)
+                .andExpect(status().isOk())
+                .andReturn();
+
+        var body = result.getResponse().getContentAsString();
+
+        assertThat(result.getResponse().getHeader("X-Total-Count")).isEqualTo("2");
+        assertThatJson(body).isArray().hasSize(2);
+        assertThatJson(body).node("[0].id").isEqualTo(bestMatch.getId());
+        assertThatJson(body).node("[1].id").isEqualTo(weakMatch.getId());
+    }
+
+    @Test
+    public void testIndexWithFullTextSearchAndTitleFilter() throws Exception {
+        var task = Instancio.of(modelGenerator.getTaskModel())
+                .set(Select.field(Task::getName), "Deploy *release*")
+                .set(Select.field(Task::getDescription), "Deploy the release")
+                .create();
+        var otherTask = Instancio.of(modelGenerator.getTaskModel())
+                .set(Select.field(Task::getName), "Deploy the site")
+                .set(Select.field(Task::getDescription), "Deploy the landing page")
+                .create();
+        taskRepository.saveAll(List.of(task, otherTask));
+
+        var request = get("/api/tasks?q=deploy&titleCont=*RELEASE").with(token);
+        var result = mockMvc.perform(request)
+                .andExpect(status().isOk())
+                .andReturn();
+
+        var body = result.getResponse().getContentAsString();
+
+        assertThat(result.getResponse().getHeader("X-Total-Count")).isEqualTo("1");
+        assertThatJson(body).isArray().hasSize(1);
+        assertThatJson(body).node("[0].id").isEqualTo(task.getId());
+    }
+
+    @Test
+    public void testIndexWithFullTextSearchAndCursor() throws Exception {
+        var request = get("/api/tasks?q=deploy&afterId=1").with(token);
+        mockMvc.perform(request)
+                .andExpect(status().isBadRequest());
+    }
+
+    @Test
+    public void testIndexWithLabelFilterReturnsAllLabels() throws Exception {
+        var task = generateTask();
+        var filterLabel = task.getLabels().iterator().next();
+        var otherLabel = Instancio.of(modelGenerator.getLabelModel()).create();
+        labelRepository.save(otherLabel);
+        task.getLabels().add(otherLabel);
+        taskRepository.save(task);
+
+        var request = get("/api/tasks?labelId=" + filterLabel.getId()).with(token);
+        var result = mockMvc.perform(request)
+                .andExpect(status().isOk())
+                .andReturn();
+
+        var body = result.getResponse().getContentAsString();
+
+        assertThatJson(body).isArray().hasSize(1);
+        assertThatJson(body).when(Option.IGNORING_ARRAY_ORDER)
+                .node("[0].taskLabelIds")
+                .isEqualTo(List.of(filterLabel.getId(), otherLabel.getId()));
+    }
+
+    @Test
+    public void testIndexWithPagination() throws Exception {
+        var tasks = Instancio.ofList(modelGenerator.getTaskModel()).size(3).create();
+        taskRepository.saveAll(tasks);
+
+        var request = get("/api/tasks?_start=1&_end=2").with(token);
+        var result = mockMvc.perform(request)
+                .andExpect(status().isOk())
+                .andReturn();
+
+        var body = result.getResponse().getContentAsString();
+
+        assertThat(result.getResponse().getHeader("X-Total-Count")).isEqualTo("3");
+        assertThat(result.getResponse().getHeader(HttpHeaders.LINK))
+                .isEqualTo("<http://localhost/api/tasks?_start=2&_end=3>; rel=\"next\"");
+        assertThatJson(body).isArray().hasSize(1);
+        assertThatJson(body).node("[0].id").isEqualTo(tasks.get(1).getId());
+    }
+
+    @Test
+    public void testIndexWithoutEndIsCapped() throws Exception {
+        var tasks = Instancio.ofList(modelGenerator.getTaskModel()).size(1001).create();
+        taskRepository.saveAll(tasks);
+
+        var request = get("/api/tasks").with(token);
+        var result = mockMvc.perform(request)
+                .andExpect(status().isOk())
+                .andReturn();
+
+        var body = result.getResponse().getContentAsString();
+
+        assertThat(result.getResponse().getHeader("X-Total-Count")).isEqualTo("1001");
+        assertThat(result.getResponse().getHeader(HttpHeaders.LINK))
+                .isEqualTo("<http://localhost/api/tasks?_start=1000&_end=2000>; rel=\"next\"");
+        assertThatJson(body).isArray().hasSize(1000);
+    }
+
+    @Test
+    public void testIndexWithCursor() throws Exception {
+        var tasks = Instancio.ofList(modelGenerator.getTaskModel()).size(3).create();
+        taskRepository.saveAll(tasks);
+
+        var request = get("/api/tasks?afterId=" + tasks.get(0).getId() + "&_start=0&_end=1").with(token);
+        var result = mockMvc.perform(request)
+                .andExpect(status().isOk())
+                .andReturn();
+
+        var body = result.getResponse().getContentAsString();
+
+        assertThat(result.getResponse().getHeader("X-Total-Count")).isEqualTo("3");
+        assertThat(result.getResponse().getHeader(HttpHeaders.LINK)).isEqualTo("<http://localhost/api/tasks?afterId="
+                + tasks.get(1).getId() + "&_start=0&_end=1>; rel=\"next\"");
+        assertThatJson(body).isArray().hasSize(1);
+        assertThatJson(body).node("[0].id").isEqualTo(tasks.get(1).getId());
+    }
+
+    @Test
+    public void testIndexStatementCount() throws Exception {
+        for (var i = 0; i < 5; i++) {
+            var task = Instancio.of(modelGenerator.getTaskModel()).create();
+
+            var user = Instancio.of(modelGenerator.getUserModel()).create();
+            userRepository.save(user);
+            task.setAssignee(user);
+
+            var taskStatus = Instancio.of(modelGenerator.getTaskStatusModel())
+                    .set(Select.field(TaskStatus::getSlug), "status_" + i)
+                    .set(Select.field(TaskStatus::getName), "Status " + i)
+                    .create();
+            taskStatusRepository.save(taskStatus);
+            task.setTaskStatus(taskStatus);
+
+            var label = Instancio.of(modelGenerator.getLabelModel())
+                    .set(Select.field(Label::getName), "label_" + i)
+                    .create();
+            labelRepository.save(label);
+            task.getLabels().add(label);
+
+            taskRepository.save(task);
+        }
+
+        var statistics = entityManagerFactory.unwrap(SessionFactory.class).getStatistics();
+        statistics.setStatisticsEnabled(true);
+        statistics.clear();
+
+        var request = get("/api/tasks").with(token);
+        var result = mockMvc.perform(request)
+                .andExpect(status().isOk())
+                .andReturn();
+
+        var statementCount = statistics.getPrepareStatementCount();
+        statistics.setStatisticsEnabled(false);
+
+        var body = result.getResponse().getContentAsString();
+
+        assertThatJson(body).isArray().hasSize(5);
+        assertThat(statementCount).isLessThanOrEqualTo(3);
+    }
+
     @Test
     public void testShow() throws Exception {
         testTask = generateTask();
@@ -186,6 +434,93 @@ class TaskControllerTest {
         );
     }
 
+    @Test
+    public void testShowNotModified() throws Exception {
+        testTask = generateTask();
+        taskRepository.save(testTask);
+
+        var response = mockMvc.perform(get("/api/tasks/{id}", testTask.getId()).with(token))
+                .andExpect(status().isOk())
+                .andExpect(header().exists(HttpHeaders.LAST_MODIFIED))
+                .andReturn()
+                .getResponse();
+
+        mockMvc.perform(get("/api/tasks/{id}", testTask.getId()).with(token)
+                        .header(HttpHeaders.IF_MODIFIED_SINCE, response.getHeader(HttpHeaders.LAST_MODIFIED)))
+                .andExpect(status().isNotModified());
+
+        var eTag = response.getHeader(HttpHeaders.ETAG);
+        mockMvc.perform(get("/api/tasks/{id}", testTask.getId()).with(token).header(HttpHeaders.IF_NONE_MATCH, eTag))
+                .andExpect(status().isNotModified());
+
+        testTask.setName(faker.lorem().word());
+        taskRepository.save(testTask);
+
+        mockMvc.perform(get("/api/tasks/{id}", testTask.getId()).with(token).header(HttpHeaders.IF_NONE_MATCH, eTag))
+                .andExpect(status().isOk());
+    }
+
+    @Test
+    public void testShowETagChangesWithStatus() throws Exception {
+        testTask = generateTask();
+        taskRepository.save(testTask);
+
+        var oldStatus = taskStatusRepository.findById(testTask.getTaskStatus().getId()).orElseThrow();
+        oldStatus.setName(faker.lorem().characters(5, 20));
+        taskStatusRepository.save(oldStatus);
+
+        var eTag = mockMvc.perform(get("/api/tasks/{id}", testTask.getId()).with(token))
+                .andExpect(status().isOk())
+                .andReturn()
+                .getResponse()
+                .getHeader(HttpHeaders.ETAG);
+
+        var newStatus = Instancio.of(modelGenerator.getTaskStatusModel()).create();
+        newStatus.setName(faker.lorem().characters(21, 30));
+        newStatus.setSlug(faker.lorem().characters(21, 30));
+        taskStatusRepository.save(newStatus);
+
+        var updateDTO = new TaskUpdateDTO();
+        updateDTO.setStatus(JsonNullable.of(newStatus.getSlug()));
+
+        mockMvc.perform(put("/api/tasks/{id}", testTask.getId()).with(token)
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(om.writeValueAsString(updateDTO)))
+                .andExpect(status().isOk());
+
+        mockMvc.perform(get("/api/tasks/{id}", testTask.getId()).with(token).header(HttpHeaders.IF_NONE_MATCH, eTag))
+                .andExpect(status().isOk())
+                .andExpect(header().string(HttpHeaders.ETAG, not(eTag)));
+
+        mockMvc.perform(put("/api/tasks/{id}", testTask.getId()).with(token)
+                        .header(HttpHeaders.IF_MATCH, eTag)
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(om.writeValueAsString(updateDTO)))
+                .andExpect(status().isPreconditionFailed());
+    }
+
+    @Test
+    public void testShowModifiedAfterStatusRename() throws Exception {
+        testTask = generateTask();
+        taskRepository.save(testTask);
+
+        var lastModified = mockMvc.perform(get("/api/tasks/{id}", testTask.getId()).with(token))
+                .andExpect(status().isOk())
+                .andReturn()
+                .getResponse()
+                .getHeader(HttpHeaders.LAST_MODIFIED);
+
+        Thread.sleep(1000);
+        var taskStatus = taskStatusRepository.findById(testTask.getTaskStatus().getId()).orElseThrow();
+        taskStatus.setSlug(faker.lorem().characters(5, 20));
+        taskStatusRepository.save(taskStatus);
+
+        mockMvc.perform(get("/api/tasks/{id}", testTask.getId()).with(token)
+                        .header(HttpHeaders.IF_MODIFIED_SINCE, lastModified))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.status").value(taskStatus.getSlug()));
+    }
+
     @Test
     @Transactional
     public void testCreate() throws Exception {
@@ -228,6 +563,37 @@ class TaskControllerTest {
         );
     }
 
+    @Test
+    public void testCreateUsesCachedReferenceData() throws Exception {
+        var taskStatus = Instancio.of(modelGenerator.getTaskStatusModel()).create();
+        taskStatusRepository.save(taskStatus);
+        var label = Instancio.of(modelGenerator.getLabelModel()).create();
+        labelRepository.save(label);
+
+        var data = new TaskCreateDTO();
+        data.setTitle(faker.lorem().word() + "aa");
+        data.setStatus(taskStatus.getSlug());
+        data.setTaskLabelIds(List.of(label.getId()));
+
+        var statistics = entityManagerFactory.unwrap(SessionFactory.class).getStatistics();
+        statistics.setStatisticsEnabled(true);
+        statistics.clear();
+
+        for (var i = 0; i < 2; i++) {
+            var request = post("/api/tasks").with(token)
+                    .contentType(MediaType.APPLICATION_JSON)
+                    .content(om.writeValueAsString(data));
+
+            mockMvc.perform(request)
+                    .andExpect(status().isCreated());
+        }
+
+        var queryCacheHitCount = statistics.getQueryCacheHitCount();
+        statistics.setStatisticsEnabled(false);
+
+        assertThat(queryCacheHitCount).isGreaterThanOrEqualTo(2);
+    }
+
     @Test
     @Transactional
     public void testUpdate() throws Exception {
@@ -296,6 +662,99 @@ class TaskControllerTest {
         assertThat(updatedTask.getTaskStatus().getSlug()).isEqualTo(testTask.getTaskStatus().getSlug());
     }
 
+    @Test
+    public void testUpdateWithIfMatch() throws Exception {
+        testTask = generateTask();
+        taskRepository.save(testTask);
+
+        var eTag = mockMvc.perform(get("/api/tasks/{id}", testTask.getId()).with(token))
+                .andReturn()
+                .getResponse()
+                .getHeader(HttpHeaders.ETAG);
+
+        var updateDTO = new TaskUpdateDTO();
+        updateDTO.setTitle(JsonNullable.of(faker.lorem().word() + "aa"));
+
+        var request = put("/api/tasks/{id}", testTask.getId()).with(token)
+                .header(HttpHeaders.IF_MATCH, eTag)
+                .contentType(MediaType.APPLICATION_JSON)
+                .content(om.writeValueAsString(updateDTO));
+
+        mockMvc.perform(request)
+                .andExpect(status().isOk());
+
+        var staleDTO = new TaskUpdateDTO();
+        staleDTO.setTitle(JsonNullable.of(faker.lorem().word() + "bb"));
+
+        var staleRequest = put("/api/tasks/{id}", testTask.getId()).with(token)
+                .header(HttpHeaders.IF_MATCH, eTag)
+                .contentType(MediaType.APPLICATION_JSON)
+                .content(om.writeValueAsString(staleDTO));
+
+        mockMvc.perform(staleRequest)
+                .andExpect(status().isPreconditionFailed());
+
+        var updatedTask = taskRepository.findById(testTask.getId()).orElse(null);
+
+        assertThat(updatedTask).isNotNull();
+        assertThat(updatedTask.getName()).isEqualTo(updateDTO.getTitle().get());
+    }
+
+    @Test
+    public void testConcurrentUpdatesDoNotLoseWrites() throws Exception {
+        testTask = generateTask();
+        taskRepository.save(testTask);
+        var initialVersion = taskRepository.findById(testTask.getId()).orElseThrow().getVersion();
+
+        var threads = 8;
+        var attempts = 10;
+        var start = new CountDownLatch(1);
+        var executor = Executors.newFixedThreadPool(threads);
+        var futures = new ArrayList<Future<List<MvcResult>>>();
+        for (var i = 0; i < threads; i++) {
+            var thread = i;
+            futures.add(executor.submit(() -> {
+                start.await();
+                var results = new ArrayList<MvcResult>();
+                for (var attempt = 0; attempt < attempts; attempt++) {
+                    var eTag = mockMvc.perform(get("/api/tasks/{id}", testTask.getId()).with(token))
+                            .andReturn()
+                            .getResponse()
+                            .getHeader(HttpHeaders.ETAG);
+
+                    var updateDTO = new TaskUpdateDTO();
+                    updateDTO.setTitle(JsonNullable.of("task " + thread + "-" + attempt));
+
+                    results.add(mockMvc.perform(put("/api/tasks/{id}", testTask.getId()).with(token)
+                                    .header(HttpHeaders.IF_MATCH, eTag)
+                                    .contentType(MediaType.APPLICATION_JSON)
+                                    .content(om.writeValueAsString(updateDTO)))
+                            .andReturn());
+                }
+                return results;
+            }));
+        }
+        start.countDown();
+
+        var statuses = new ArrayList<Integer>();
+        for (var future : futures) {
+            for (var result : future.get(1, TimeUnit.MINUTES)) {
+                statuses.add(result.getResponse().getStatus());
+            }
+        }
+        executor.shutdown();
+
+        var successes = statuses.stream().filter(status -> status == HttpStatus.OK.value()).count();
+        var updatedTask = taskRepository.findById(testTask.getId()).orElseThrow();
+
+        assertThat(statuses).hasSize(threads * attempts)
+                .allMatch(status -> status == HttpStatus.OK.value()
+                        || status == HttpStatus.CONFLICT.value()
+                        || status == HttpStatus.PRECONDITION_FAILED.value());
+        assertThat(successes).isPositive();
+        assertThat(updatedTask.getVersion()).isEqualTo(initialVersion + successes);
+    }
+
     @Test
     public void testDestroy() throws Exception {
         testTask = generateTask();
@@ -311,6 +770,16 @@ class TaskControllerTest {
         assertThat(testTask).isNull();
     }
 
+    @Test
+    public void testDestroyNotFound() throws Exception {
+        var outboxEvents = outboxEventRepository.count();
+
+        mockMvc.perform(delete("/api/tasks/{id}", Long.MAX_VALUE).with(token))
+                .andExpect(status().isNotFound());
+
+        assertThat(outboxEventRepository.count()).isEqualTo(outboxEvents);
+    }
+
     @Test
     public void testDestroyWithoutAuth() throws Exception {
         testTask = generateTask();
@@ -322,4 +791,142 @@ class TaskControllerTest {
                 .andExpect(status().isUnauthorized());
     }
 
+    @Test
+    public void testCreateAll() throws Exception {
+        var task = generateTask();
+        var label = task.getLabels().iterator().next();
+
+        var data = new ArrayList<TaskCreateDTO>();
+        for (var i = 0; i < 20; i++) {
+            var dto = new TaskCreateDTO();
+            dto.setTitle(faker.lorem().word() + "aa" + i);
+            dto.setStatus(task.getTaskStatus().getSlug());
+            dto.setAssigneeId(task.getAssignee().getId());
+            dto.setTaskLabelIds(List.of(label.getId()));
+            data.add(dto);
+        }
+
+        var statistics = entityManagerFactory.unwrap(SessionFactory.class).getStatistics();
+        statistics.setStatisticsEnabled(true);
+        statistics.clear();
+
+        var request = post("/api/tasks/bulk").with(token)
+                .contentType(MediaType.APPLICATION_JSON)
+                .content(om.writeValueAsString(data));
+
+        var result = mockMvc.perform(request)
+                .andExpect(status().isCreated())
+                .andReturn();
+
+        var statementCount = statistics.getPrepareStatementCount();
+        statistics.setStatisticsEnabled(false);
+
+        var body = result.getResponse().getContentAsString();
+
+        assertThatJson(body).isArray().hasSize(20);
+        assertThatJson(body).inPath("[0]").and(
+                v -> v.node("title").isEqualTo(data.get(0).getTitle()),
+                v -> v.node("status").isEqualTo(task.getTaskStatus().getSlug()),
+                v -> v.node("assignee_id").isEqualTo(task.getAssignee().getId()),
+                v -> v.node("taskLabelIds").isEqualTo(List.of(label.getId()))
+        );
+        assertThat(taskRepository.count()).isEqualTo(20);
+        assertThat(statementCount).isLessThanOrEqualTo(8);
+    }
+
+    @Test
+    public void testCreateAllWithInvalidTask() throws Exception {
+        var task = generateTask();
+
+        var valid = new TaskCreateDTO();
+        valid.setTitle(faker.lorem().word() + "aa");
+        valid.setStatus(task.getTaskStatus().getSlug());
+
+        var invalid = new TaskCreateDTO();
+        invalid.setTitle("");
+        invalid.setStatus(task.getTaskStatus().getSlug());
+
+        var request = post("/api/tasks/bulk").with(token)
+                .contentType(MediaType.APPLICATION_JSON)
+                .content(om.writeValueAsString(List.of(valid, invalid)));
+
+        mockMvc.perform(request)
+                .andExpect(status().isBadRequest());
+
+        assertThat(taskRepository.count()).isZero();
+    }
+
+    @Test
+    public void testUpdateAll() throws Exception {
+        var first = generateTask();
+        taskRepository.save(first);
+        var second = Instancio.of(modelGenerator.getTaskModel()).create();
+        second.setTaskStatus(first.getTaskStatus());
+        taskRepository.save(second);
+
+        var taskStatus = Instancio.of(modelGenerator.getTaskStatusModel())
+                .set(Select.field(TaskStatus::getSlug), "bulk_status")
+                .set(Select.field(TaskStatus::getName), "Bulk status")
+                .create();
+        taskStatusRepository.save(taskStatus);
+
+        var data = List.of(first, second).stream()
+                .map(task -> {
+                    var dto = new TaskBulkUpdateDTO();
+                    dto.setId(task.getId());
+                    dto.setTitle(JsonNullable.of(faker.lorem().word() + "aa"));
+                    dto.setStatus(JsonNullable.of(taskStatus.getSlug()));
+                    return dto;
+                })
+                .toList();
+
+        var request = put("/api/tasks/bulk").with(token)
+                .contentType(MediaType.APPLICATION_JSON)
+                .content(om.writeValueAsString(data));
+
+        mockMvc.perform(request)
+                .andExpect(status().isOk());
+
+        for (var dto : data) {
+            var task = taskRepository.findById(dto.getId()).orElseThrow();
+            assertThat(task.getName()).isEqualTo(dto.getTitle().get());
+            assertThat(task.getTaskStatus().getId()).isEqualTo(taskStatus.getId());
+        }
+    }
+
+    @Test
+    public void testUpdateAllWithMissingTask() throws Exception {
+        testTask = generateTask();
+        taskRepository.save(testTask);
+
+        var dto = new TaskBulkUpdateDTO();
+        dto.setId(testTask.getId() + 1000);
+        dto.setTitle(JsonNullable.of(faker.lorem().word() + "aa"));
+
+        var request = put("/api/tasks/bulk").with(token)
+                .contentType(MediaType.APPLICATION_JSON)
+                .content(om.writeValueAsString(List.of(dto)));
+
+        mockMvc.perform(request)
+                .andExpect(status().isNotFound());
+    }
+
+    @Test
+    public void testDestroyAll() throws Exception {
+        var first = generateTask();
+        taskRepository.save(first);
+        var second = Instancio.of(modelGenerator.getTaskModel()).create();
+        second.setLabels(new HashSet<>(first.getLabels()));
+        taskRepository.save(second);
+
+        var request = delete("/api/tasks/bulk").with(token)
+                .contentType(MediaType.APPLICATION_JSON)
+                .content(om.writeValueAsString(List.of(first.getId(), second.getId())));
+
+        mockMvc.perform(request)
+                .andExpect(status().isNoContent());
+
+        assertThat(taskRepository.count()).isZero();
+    }
+
 }
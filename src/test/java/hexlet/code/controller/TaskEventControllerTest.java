@@ -0,0 +1,203 @@
+package hexlet.code.controller;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import hexlet.code.dto.TaskDTO.TaskCreateDTO;
+import hexlet.code.model.TaskStatus;
+import hexlet.code.repository.TaskRepository;
+import hexlet.code.repository.TaskStatusRepository;
+import hexlet.code.service.TaskEventService;
+import hexlet.code.util.ModelGenerator;
+import net.datafaker.Faker;
+import org.instancio.Instancio;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.core.task.TaskExecutor;
+import org.springframework.http.MediaType;
+import org.springframework.security.test.web.servlet.request.SecurityMockMvcRequestPostProcessors;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.MvcResult;
+
+import java.util.ArrayList;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.TimeUnit;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.springframework.security.test.web.servlet.request.SecurityMockMvcRequestPostProcessors.jwt;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.delete;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.request;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+@SpringBootTest
+@AutoConfigureMockMvc
+class TaskEventControllerTest {
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @Autowired
+    private Faker faker;
+
+    @Autowired
+    private ObjectMapper om;
+
+    @Autowired
+    private TaskRepository taskRepository;
+
+    @Autowired
+    private TaskStatusRepository taskStatusRepository;
+
+    @Autowired
+    private TaskEventService taskEventService;
+
+    @Autowired
+    private ModelGenerator modelGenerator;
+
+    @Autowired
+    @Qualifier("taskEventsExecutor")
+    private TaskExecutor taskEventsExecutor;
+
+    private SecurityMockMvcRequestPostProcessors.JwtRequestPostProcessor token;
+
+    private TaskStatus testTaskStatus;
+
+    @BeforeEach
+    public void setUp() {
+        token = jwt().jwt(builder -> builder.subject("hexlet@example.com"));
+        testTaskStatus = Instancio.of(modelGenerator.getTaskStatusModel()).create();
+        taskStatusRepository.save(testTaskStatus);
+    }
+
+    @AfterEach
+    public void cleanUp() {
+        taskRepository.deleteAll();
+        taskStatusRepository.deleteById(testTaskStatus.getId());
+    }
+
+    @Test
+    public void testBlockedDrainsDoNotHoldSharedThreads() throws Exception {
+        var blocker = new CompletableFuture<Void>();
+        var drains = new ArrayList<CompletableFuture<Boolean>>();
+        for (var i = 0; i < 16; i++) {
+            var drain = new CompletableFuture<Boolean>();
+            drains.add(drain);
+            taskEventsExecutor.execute(() -> {
+                drain.complete(Thread.currentThread().isVirtual());
+                blocker.join();
+            });
+        }
+
+        CompletableFuture.allOf(drains.toArray(CompletableFuture[]::new)).get(10, TimeUnit.SECONDS);
+        blocker.complete(null);
+
+        assertThat(drains).extracting(CompletableFuture::join).containsOnly(true);
+    }
+
+    @Test
+    public void testSubscribe() throws Exception {
+        var subscription = mockMvc.perform(get("/api/tasks/events").with(token))
+                .andExpect(request().asyncStarted())
+                .andReturn();
+
+        var id = createTask();
+        mockMvc.perform(delete("/api/tasks/{id}", id).with(token))
+                .andExpect(status().isNoContent());
+
+        var body = awaitContent(subscription, "\"type\":\"deleted\"");
+        subscription.getRequest().getAsyncContext().complete();
+
+        assertThat(body).contains("event:created", "\"id\":" + id, "event:deleted");
+    }
+
+    @Test
+    public void testResumeFromLastEventId() throws Exception {
+        var lastEventId = taskEventService.getLastEventId();
+        createTask();
+        var id = createTask();
+
+        var subscription = mockMvc.perform(get("/api/tasks/events").with(token)
+                        .header("Last-Event-ID", shift(lastEventId, 1)))
+                .andExpect(request().asyncStarted())
+                .andReturn();
+
+        var body = awaitContent(subscription, "\"task\":{\"id\":" + id);
+        subscription.getRequest().getAsyncContext().complete();
+
+        assertThat(body).contains("id:" + shift(lastEventId, 2))
+                .doesNotContain("id:" + shift(lastEventId, 1) + "\n");
+    }
+
+    @Test
+    public void testResumeFromUnknownEventId() throws Exception {
+        var lastEventId = taskEventService.getLastEventId();
+
+        var subscription = mockMvc.perform(get("/api/tasks/events").with(token)
+                        .header("Last-Event-ID", shift(lastEventId, 100)))
+                .andExpect(request().asyncStarted())
+                .andReturn();
+
+        var body = awaitContent(subscription, "event:reset");
+        subscription.getRequest().getAsyncContext().complete();
+
+        assertThat(body).contains("id:" + lastEventId);
+    }
+
+    @Test
+    public void testResumeFromPreviousBoot() throws Exception {
+        createTask();
+        var lastEventId = taskEventService.getLastEventId();
+        var sequence = lastEventId.substring(lastEventId.indexOf('-') + 1);
+
+        var subscription = mockMvc.perform(get("/api/tasks/events").with(token)
+                        .header("Last-Event-ID", "1-" + (Long.parseLong(sequence) - 1)))
+                .andExpect(request().asyncStarted())
+                .andReturn();
+
+        var body = awaitContent(subscription, "event:reset");
+        subscription.getRequest().getAsyncContext().complete();
+
+        assertThat(body).contains("id:" + lastEventId)
+                .doesNotContain("event:created");
+    }
+
+    private long createTask() throws Exception {
+        var data = new TaskCreateDTO();
+        data.setTitle(faker.lorem().word() + "aa");
+        data.setStatus(testTaskStatus.getSlug());
+
+        var request = post("/api/tasks").with(token)
+                .contentType(MediaType.APPLICATION_JSON)
+                .content(om.writeValueAsString(data));
+
+        var body = mockMvc.perform(request)
+                .andExpect(status().isCreated())
+                .andReturn()
+                .getResponse()
+                .getContentAsString();
+
+        return om.readTree(body).get("id").asLong();
+    }
+
+    private static String shift(String eventId, long offset) {
+        var separator = eventId.indexOf('-');
+        return eventId.substring(0, separator + 1) + (Long.parseLong(eventId.substring(separator + 1)) + offset);
+    }
+
+    private String awaitContent(MvcResult result, String expected) throws Exception {
+        var deadline = System.currentTimeMillis() + 5000;
+        var body = result.getResponse().getContentAsString();
+        while (!body.contains(expected) && System.currentTimeMillis() < deadline) {
+            Thread.sleep(50);
+            body = result.getResponse().getContentAsString();
+        }
+        assertThat(body).contains(expected);
+        return body;
+    }
+
+}
@@ -0,0 +1,122 @@
+package hexlet.code.controller;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import hexlet.code.model.Task;
+import hexlet.code.repository.TaskRepository;
+import hexlet.code.util.ModelGenerator;
+import org.instancio.Instancio;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.http.MediaType;
+import org.springframework.security.test.web.servlet.request.SecurityMockMvcRequestPostProcessors;
+import org.springframework.test.web.servlet.MockMvc;
+
+import java.util.List;
+
+import static net.javacrumbs.jsonunit.assertj.JsonAssertions.assertThatJson;
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.springframework.security.test.web.servlet.request.SecurityMockMvcRequestPostProcessors.jwt;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.asyncDispatch;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.content;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.request;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+@SpringBootTest
+@AutoConfigureMockMvc
+class TaskExportControllerTest {
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @Autowired
+    private ObjectMapper om;
+
+    @Autowired
+    private TaskRepository taskRepository;
+
+    @Autowired
+    private ModelGenerator modelGenerator;
+
+    private SecurityMockMvcRequestPostProcessors.JwtRequestPostProcessor token;
+
+    private List<Task> testTasks;
+
+    @BeforeEach
+    public void setUp() {
+        token = jwt().jwt(builder -> builder.subject("hexlet@example.com"));
+        testTasks = Instancio.ofList(modelGenerator.getTaskModel()).size(3).create();
+        taskRepository.saveAll(testTasks);
+    }
+
+    @AfterEach
+    public void cleanUp() {
+        taskRepository.deleteAll();
+    }
+
+    @Test
+    public void testExportNdjson() throws Exception {
+        var request = get("/api/tasks/export").with(token)
+                .accept(MediaType.APPLICATION_NDJSON);
+        var asyncResult = mockMvc.perform(request)
+                .andExpect(request().asyncStarted())
+                .andReturn();
+
+        var result = mockMvc.perform(asyncDispatch(asyncResult))
+                .andExpect(status().isOk())
+                .andReturn();
+
+        var lines = result.getResponse().getContentAsString().lines().toList();
+
+        assertThat(lines).hasSize(testTasks.size());
+        for (var i = 0; i < lines.size(); i++) {
+            var task = testTasks.get(i);
+            assertThatJson(lines.get(i)).and(
+                    v -> v.node("id").isEqualTo(task.getId()),
+                    v -> v.node("title").isEqualTo(task.getName()),
+                    v -> v.node("content").isEqualTo(task.getDescription())
+            );
+        }
+    }
+
+    @Test
+    public void testExportJson() throws Exception {
+        var request = get("/api/tasks/export").with(token)
+                .accept(MediaType.APPLICATION_JSON);
+        var asyncResult = mockMvc.perform(request)
+                .andExpect(request().asyncStarted())
+                .andReturn();
+
+        var result = mockMvc.perform(asyncDispatch(asyncResult))
+                .andExpect(status().isOk())
+                .andReturn();
+
+        var body = result.getResponse().getContentAsString();
+
+        assertThatJson(body).isArray().hasSize(testTasks.size());
+        assertThat(om.readTree(body).findValuesAsText("title"))
+                .containsExactlyElementsOf(testTasks.stream().map(Task::getName).toList());
+    }
+
+    @Test
+    public void testExportDefaultsToJson() throws Exception {
+        for (var request : List.of(get("/api/tasks/export").with(token),
+                get("/api/tasks/export").with(token).accept(MediaType.ALL))) {
+            var asyncResult = mockMvc.perform(request)
+                    .andExpect(request().asyncStarted())
+                    .andReturn();
+
+            var result = mockMvc.perform(asyncDispatch(asyncResult))
+                    .andExpect(status().isOk())
+                    .andExpect(content().contentType(MediaType.APPLICATION_JSON))
+                    .andReturn();
+
+            assertThatJson(result.getResponse().getContentAsString()).isArray().hasSize(testTasks.size());
+        }
+    }
+
+}
@@ -17,6 +17,7 @@ import org.openapitools.jackson.nullable.JsonNullable;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
 import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.MediaType;
 import org.springframework.security.test.web.servlet.request.SecurityMockMvcRequestPostProcessors;
 import org.springframework.test.web.servlet.MockMvc;
@@ -84,6 +85,24 @@ class TaskStatusControllerTest {
         assertThatJson(body).isArray();
     }
 
+    @Test
+    public void testIndexNotModified() throws Exception {
+        var eTag = mockMvc.perform(get("/api/task_statuses").with(token))
+                .andExpect(status().isOk())
+                .andReturn()
+                .getResponse()
+                .getHeader(HttpHeaders.ETAG);
+
+        mockMvc.perform(get("/api/task_statuses").with(token).header(HttpHeaders.IF_NONE_MATCH, eTag))
+                .andExpect(status().isNotModified());
+
+        taskStatusRepository.deleteById(testTaskStatus.getId());
+        testTaskStatus = null;
+
+        mockMvc.perform(get("/api/task_statuses").with(token).header(HttpHeaders.IF_NONE_MATCH, eTag))
+                .andExpect(status().isOk());
+    }
+
     @Test
     public void testShow() throws Exception {
         var request = get("/api/task_statuses/{id}", testTaskStatus.getId()).with(jwt());
@@ -182,6 +201,12 @@ class TaskStatusControllerTest {
         assertThat(testTaskStatus).isNull();
     }
 
+    @Test
+    public void testDestroyNotFound() throws Exception {
+        mockMvc.perform(delete("/api/task_statuses/{id}", Long.MAX_VALUE).with(token))
+                .andExpect(status().isNotFound());
+    }
+
     @Test
     public void testDestroyWithoutAuth() throws Exception {
         var request = delete("/api/task_statuses/{id}", testTaskStatus.getId());
@@ -202,4 +227,14 @@ class TaskStatusControllerTest {
                 .andExpect(status().isMethodNotAllowed());
     }
 
+    @Test
+    public void testDestroyButHasManyTasks() throws Exception {
+        var tasks = Instancio.ofList(modelGenerator.getTaskModel()).size(2).create();
+        tasks.forEach(task -> task.setTaskStatus(testTaskStatus));
+        taskRepository.saveAll(tasks);
+
+        mockMvc.perform(delete("/api/task_statuses/{id}", testTaskStatus.getId()).with(token))
+                .andExpect(status().isMethodNotAllowed());
+    }
+
 }
@@ -1,14 +1,21 @@
 package hexlet.code.controller;
 
+import com.fasterxml.jackson.databind.JsonNode;
 import com.fasterxml.jackson.databind.ObjectMapper;
+import hexlet.code.dto.AuthRequest;
 import hexlet.code.dto.UserDTO.UserCreateDTO;
 import hexlet.code.dto.UserDTO.UserUpdateDTO;
+import hexlet.code.model.Task;
 import hexlet.code.model.User;
 import hexlet.code.repository.TaskRepository;
 import hexlet.code.repository.UserRepository;
+import hexlet.code.service.UserService;
 import hexlet.code.util.ModelGenerator;
+import jakarta.persistence.EntityManagerFactory;
 import net.datafaker.Faker;
+import org.hibernate.SessionFactory;
 import org.instancio.Instancio;
+import org.instancio.Select;
 import org.junit.jupiter.api.AfterEach;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
@@ -16,9 +23,13 @@ import org.openapitools.jackson.nullable.JsonNullable;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
 import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.cache.CacheManager;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.MediaType;
+import org.springframework.security.crypto.password.PasswordEncoder;
 import org.springframework.security.test.web.servlet.request.SecurityMockMvcRequestPostProcessors;
 import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.transaction.support.TransactionTemplate;
 
 import static net.javacrumbs.jsonunit.assertj.JsonAssertions.assertThatJson;
 import static org.assertj.core.api.Assertions.assertThat;
@@ -27,6 +38,7 @@ import static org.springframework.test.web.servlet.request.MockMvcRequestBuilder
 import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
 import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.put;
 import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.delete;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
 import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
 
 
@@ -52,6 +64,21 @@ class UserControllerTest {
     @Autowired
     private ModelGenerator modelGenerator;
 
+    @Autowired
+    private EntityManagerFactory entityManagerFactory;
+
+    @Autowired
+    private PasswordEncoder passwordEncoder;
+
+    @Autowired
+    private UserService userService;
+
+    @Autowired
+    private CacheManager cacheManager;
+
+    @Autowired
+    private TransactionTemplate transactionTemplate;
+
     private SecurityMockMvcRequestPostProcessors.JwtRequestPostProcessor token;
 
     private User testUser;
@@ -83,6 +110,24 @@ class UserControllerTest {
         assertThatJson(body).isArray();
     }
 
+    @Test
+    public void testIndexNotModified() throws Exception {
+        var eTag = mockMvc.perform(get("/api/users").with(token))
+                .andExpect(status().isOk())
+                .andReturn()
+                .getResponse()
+                .getHeader(HttpHeaders.ETAG);
+
+        mockMvc.perform(get("/api/users").with(token).header(HttpHeaders.IF_NONE_MATCH, eTag))
+                .andExpect(status().isNotModified());
+
+        testUser.setFirstName(faker.name().firstName());
+        userRepository.save(testUser);
+
+        mockMvc.perform(get("/api/users").with(token).header(HttpHeaders.IF_NONE_MATCH, eTag))
+                .andExpect(status().isOk());
+    }
+
     @Test
     public void testShow() throws Exception {
         var request = get("/api/users/{id}", testUser.getId()).with(jwt());
@@ -125,6 +170,7 @@ class UserControllerTest {
         assertThat(updatedUser.getFirstName()).isEqualTo(data.getFirstName().get());
         assertThat(updatedUser.getLastName()).isEqualTo(data.getLastName().get());
         assertThat(updatedUser.getPassword()).isNotEqualTo(data.getPassword().get());
+        assertThat(passwordEncoder.matches(data.getPassword().get(), updatedUser.getPassword())).isTrue();
     }
 
     @Test
@@ -148,7 +194,32 @@ class UserControllerTest {
         assertThat(updatedUser.getEmail()).isEqualTo(testUser.getEmail());
         assertThat(updatedUser.getFirstName()).isEqualTo(data.getFirstName().get());
         assertThat(updatedUser.getLastName()).isEqualTo(data.getLastName().get());
-        assertThat(updatedUser.getPassword()).isNotEqualTo(testUser.getPassword());
+        assertThat(updatedUser.getPassword()).isEqualTo(testUser.getPassword());
+    }
+
+    @Test
+    public void testPartialUpdateKeepsCredential() throws Exception {
+        testUser.setPassword(passwordEncoder.encode("qwerty"));
+        userRepository.save(testUser);
+
+        var data = new UserUpdateDTO();
+        data.setFirstName(JsonNullable.of(faker.name().firstName()));
+
+        token = jwt().jwt(builder -> builder.subject(testUser.getEmail()));
+
+        mockMvc.perform(put("/api/users/{id}", testUser.getId()).with(token)
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(om.writeValueAsString(data)))
+                .andExpect(status().isOk());
+
+        var authRequest = new AuthRequest();
+        authRequest.setUsername(testUser.getEmail());
+        authRequest.setPassword("qwerty");
+
+        mockMvc.perform(post("/api/login")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(om.writeValueAsString(authRequest)))
+                .andExpect(status().isOk());
     }
 
     @Test
@@ -197,6 +268,77 @@ class UserControllerTest {
         assertThat(testUser).isNull();
     }
 
+    @Test
+    public void testDestroyAsync() throws Exception {
+        for (var i = 0; i < 2; i++) {
+            var task = Instancio.of(modelGenerator.getTaskModel())
+                    .set(Select.field(Task::getName), "task_" + i)
+                    .create();
+            task.setAssignee(testUser);
+            taskRepository.save(task);
+        }
+        token = jwt().jwt(builder -> builder.subject(testUser.getEmail()));
+
+        var location = mockMvc.perform(delete("/api/users/{id}", testUser.getId()).with(token)
+                        .param("async", "true")
+                        .param("detachTasks", "true"))
+                .andExpect(status().isAccepted())
+                .andExpect(jsonPath("$.resourceType").value("user"))
+                .andReturn()
+                .getResponse()
+                .getHeader(HttpHeaders.LOCATION);
+
+        var job = awaitJob(location);
+
+        assertThat(job.get("status").asText()).isEqualTo("succeeded");
+        assertThat(job.get("processedTasks").asLong()).isEqualTo(2);
+        assertThat(userRepository.findById(testUser.getId())).isEmpty();
+        assertThat(taskRepository.existsByAssigneeId(testUser.getId())).isFalse();
+        assertThat(taskRepository.count()).isEqualTo(2);
+        testUser = null;
+    }
+
+    @Test
+    public void testDestroyAsyncButHasTask() throws Exception {
+        var task = Instancio.of(modelGenerator.getTaskModel()).create();
+        task.setAssignee(testUser);
+        taskRepository.save(task);
+        token = jwt().jwt(builder -> builder.subject(testUser.getEmail()));
+
+        mockMvc.perform(delete("/api/users/{id}", testUser.getId()).with(token)
+                        .param("async", "true"))
+                .andExpect(status().isMethodNotAllowed());
+
+        assertThat(userRepository.findById(testUser.getId())).isPresent();
+        assertThat(taskRepository.existsByAssigneeId(testUser.getId())).isTrue();
+    }
+
+    @Test
+    public void testDestroyDetachingTasksRunsAsJob() throws Exception {
+        var tasks = Instancio.ofList(modelGenerator.getTaskModel()).size(2).create();
+        tasks.forEach(task -> task.setAssignee(testUser));
+        taskRepository.saveAll(tasks);
+        token = jwt().jwt(builder -> builder.subject(testUser.getEmail()));
+
+        var location = mockMvc.perform(delete("/api/users/{id}", testUser.getId()).with(token)
+                        .param("detachTasks", "true"))
+                .andExpect(status().isAccepted())
+                .andExpect(jsonPath("$.resourceType").value("user"))
+                .andReturn()
+                .getResponse()
+                .getHeader(HttpHeaders.LOCATION);
+
+        var job = awaitJob(location);
+
+        assertThat(job.get("status").asText()).isEqualTo("succeeded");
+        assertThat(job.get("processedTasks").asLong()).isEqualTo(2);
+
+        assertThat(userRepository.findById(testUser.getId())).isEmpty();
+        assertThat(taskRepository.existsByAssigneeId(testUser.getId())).isFalse();
+        assertThat(taskRepository.count()).isEqualTo(2);
+        testUser = null;
+    }
+
     @Test
     public void testDestroyWithoutAuth() throws Exception {
         var request = delete("/api/users/{id}", testUser.getId());
@@ -219,4 +361,97 @@ class UserControllerTest {
                 .andExpect(status().isMethodNotAllowed());
     }
 
+    @Test
+    public void testDestroyButHasManyTasks() throws Exception {
+        var tasks = Instancio.ofList(modelGenerator.getTaskModel()).size(2).create();
+        tasks.forEach(task -> task.setAssignee(testUser));
+        taskRepository.saveAll(tasks);
+
+        token = jwt().jwt(builder -> builder.subject(testUser.getEmail()));
+
+        mockMvc.perform(delete("/api/users/{id}", testUser.getId()).with(token))
+                .andExpect(status().isMethodNotAllowed());
+    }
+
+    @Test
+    public void testUpdateAnotherUser() throws Exception {
+        var data = new UserUpdateDTO();
+        data.setFirstName(JsonNullable.of(faker.name().firstName()));
+
+        var request = put("/api/users/{id}", testUser.getId()).with(token)
+                .contentType(MediaType.APPLICATION_JSON)
+                .content(om.writeValueAsString(data));
+
+        mockMvc.perform(request)
+                .andExpect(status().isForbidden());
+
+        var user = userRepository.findById(testUser.getId()).orElse(null);
+
+        assertThat(user).isNotNull();
+        assertThat(user.getFirstName()).isEqualTo(testUser.getFirstName());
+    }
+
+    @Test
+    public void testAuthorizationUsesCachedPrincipal() throws Exception {
+        var data = new UserUpdateDTO();
+        data.setFirstName(JsonNullable.of(faker.name().firstName()));
+
+        token = jwt().jwt(builder -> builder.subject(testUser.getEmail()));
+
+        mockMvc.perform(put("/api/users/{id}", testUser.getId()).with(token)
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(om.writeValueAsString(data)))
+                .andExpect(status().isOk());
+
+        var statistics = entityManagerFactory.unwrap(SessionFactory.class).getStatistics();
+        statistics.setStatisticsEnabled(true);
+        statistics.clear();
+
+        mockMvc.perform(put("/api/users/{id}", testUser.getId()).with(token)
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(om.writeValueAsString(data)))
+                .andExpect(status().isOk());
+
+        var queryCount = statistics.getQueryExecutionCount();
+        statistics.setStatisticsEnabled(false);
+
+        assertThat(queryCount).isZero();
+    }
+
+    @Test
+    public void testEmailCacheEvictedAfterCommit() {
+        var oldEmail = testUser.getEmail();
+        userRepository.findIdByEmail(oldEmail);
+        var cache = cacheManager.getCache("userIdsByEmail");
+
+        var data = new UserUpdateDTO();
+        data.setEmail(JsonNullable.of(faker.internet().emailAddress()));
+
+        transactionTemplate.executeWithoutResult(status -> {
+            userService.updateUser(testUser.getId(), data);
+            assertThat(cache.get(oldEmail)).isNotNull();
+        });
+
+        assertThat(cache.get(oldEmail)).isNull();
+        assertThat(userRepository.findIdByEmail(oldEmail)).isEmpty();
+    }
+
+    private JsonNode awaitJob(String location) throws Exception {
+        var deadline = System.currentTimeMillis() + 10000;
+        while (true) {
+            var body = mockMvc.perform(get(location).with(token))
+                    .andExpect(status().isOk())
+                    .andReturn()
+                    .getResponse()
+                    .getContentAsString();
+            var job = om.readTree(body);
+            var jobStatus = job.get("status").asText();
+            if (!jobStatus.equals("pending") && !jobStatus.equals("running")
+                    || System.currentTimeMillis() > deadline) {
+                return job;
+            }
+            Thread.sleep(50);
+        }
+    }
+
 }
@@ -0,0 +1,48 @@
+package hexlet.code.util;
+
+import hexlet.code.component.OutboxSink;
+import hexlet.code.model.OutboxEvent;
+import org.springframework.context.annotation.Primary;
+import org.springframework.stereotype.Component;
+
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+
+@Component
+@Primary
+public class InMemoryOutboxSink implements OutboxSink {
+
+    private final List<OutboxEvent> events = new CopyOnWriteArrayList<>();
+    private final List<OutboxEvent> rejected = new CopyOnWriteArrayList<>();
+    private volatile boolean rejectNext;
+
+    @Override
+    public void publish(List<OutboxEvent> batch) {
+        if (rejectNext) {
+            rejectNext = false;
+            rejected.addAll(batch);
+            throw new IllegalStateException("Outbox sink is unavailable");
+        }
+        events.addAll(batch);
+    }
+
+    public void rejectNextBatch() {
+        rejectNext = true;
+    }
+
+    public List<OutboxEvent> getEvents(String aggregateType, Long aggregateId) {
+        return filter(events, aggregateType, aggregateId);
+    }
+
+    public List<OutboxEvent> getRejected(String aggregateType, Long aggregateId) {
+        return filter(rejected, aggregateType, aggregateId);
+    }
+
+    private static List<OutboxEvent> filter(List<OutboxEvent> events, String aggregateType, Long aggregateId) {
+        return events.stream()
+                .filter(event -> event.getAggregateType().equals(aggregateType))
+                .filter(event -> event.getAggregateId().equals(aggregateId))
+                .toList();
+    }
+
+}
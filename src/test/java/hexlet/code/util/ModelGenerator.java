@@ -37,12 +37,16 @@ public class ModelGenerator {
         labelModel = Instancio.of(Label.class)
                 .ignore(Select.field(Label::getId))
                 .ignore(Select.field(Label::getCreatedAt))
+                .ignore(Select.field(Label::getUpdatedAt))
+                .ignore(Select.field(Label::getVersion))
                 .supply(Select.field(Label::getName), () -> faker.lorem().word() + "aa")
                 .toModel();
 
         taskModel = Instancio.of(Task.class)
                 .ignore(Select.field(Task::getId))
                 .ignore(Select.field(Task::getCreatedAt))
+                .ignore(Select.field(Task::getUpdatedAt))
+                .ignore(Select.field(Task::getVersion))
                 .ignore(Select.field(Task::getAssignee))
                 .ignore(Select.field(Task::getTaskStatus))
                 .supply(Select.field(Task::getName), () -> faker.lorem().word())
@@ -55,6 +59,8 @@ public class ModelGenerator {
         taskStatusModel = Instancio.of(TaskStatus.class)
                 .ignore(Select.field(TaskStatus::getId))
                 .ignore(Select.field(TaskStatus::getCreatedAt))
+                .ignore(Select.field(TaskStatus::getUpdatedAt))
+                .ignore(Select.field(TaskStatus::getVersion))
                 .supply(Select.field(TaskStatus::getName), () -> slugAndName)
                 .supply(Select.field(TaskStatus::getSlug), () -> slugAndName)
                 .toModel();
@@ -63,6 +69,7 @@ public class ModelGenerator {
                 .ignore(Select.field(User::getId))
                 .ignore(Select.field(User::getCreatedAt))
                 .ignore(Select.field(User::getUpdatedAt))
+                .ignore(Select.field(User::getVersion))
                 .supply(Select.field(User::getEmail), () -> faker.internet().emailAddress())
                 .supply(Select.field(User::getFirstName), () -> faker.name().firstName())
                 .supply(Select.field(User::getLastName), () -> faker.name().lastName())
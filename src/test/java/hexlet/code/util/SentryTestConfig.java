@@ -0,0 +1,16 @@
+package hexlet.code.util;
+
+import io.sentry.ITransportFactory;
+import io.sentry.NoOpTransportFactory;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+@Configuration
+public class SentryTestConfig {
+
+    @Bean
+    public ITransportFactory noOpTransportFactory() {
+        return NoOpTransportFactory.getInstance();
+    }
+
+}